@@ -0,0 +1,14 @@
+#!/bin/sh
+
+# Merge the reports of shard directories into one report
+# Usage: ./merge_reports.sh [--out <dir>] [--allure] <shardDir | journal.jsonl>...
+# A shard directory is merged with its newest journal; pass a journal file to merge an earlier run
+
+# Set the classpath
+CLASSPATH="target/classes"
+for jar in $(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout | tr ':' ' '); do
+    CLASSPATH="$CLASSPATH:$jar"
+done
+
+# Run the ShardReportMerger class
+java -cp "$CLASSPATH" generic.ShardReportMerger "$@"
@@ -0,0 +1,219 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Suite listener that generates the Allure report once, after the whole suite.
+ *
+ * Generation is skipped when no result file was written since the last successful report,
+ * and the previous report's history is copied into the results so trends survive the
+ * regeneration.
+ * The report is built by the Allure command line when "allure" is on the PATH, otherwise by
+ * "mvn allure:report". Configured through:
+ *
+ *   allure.report.mode=background   background (detached, does not block the run), wait or off
+ *   allure.report.dir=target/allure-report
+ */
+public class AllureReportListener implements ISuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(AllureReportListener.class);
+
+    private static final String MARKER_FILE = ".generated-at";
+    private static final String LOG_PATH = "test-output/allure-generate.log";
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String mode = Test_DataByPropertyFILE.getData("allure.report.mode", "background").toLowerCase();
+        if ("off".equals(mode)) {
+            return;
+        }
+        // Finish the failure screenshots that go into the results directory first
+        ScreenshotService.awaitPending(30_000);
+
+        File projectDir = new File(System.getProperty("user.dir"));
+        File resultsDir = resolve(projectDir, System.getProperty("allure.results.directory", "allure-results"));
+        File reportDir = resolve(projectDir, Test_DataByPropertyFILE.getData("allure.report.dir", "target/allure-report"));
+        try {
+            long lastGenerated = readMarker(reportDir);
+            long newResults = countResultsSince(resultsDir, lastGenerated);
+            if (newResults == 0) {
+                logger.info("Allure report is up to date, no new results in {}", resultsDir);
+                return;
+            }
+            copyHistory(reportDir, resultsDir);
+
+            long startedAt = System.currentTimeMillis();
+            ProcessBuilder builder = new ProcessBuilder(command(resultsDir, reportDir))
+                .directory(projectDir)
+                .redirectErrorStream(true)
+                .redirectOutput(prepareLog(projectDir));
+            Process process = builder.start();
+            logger.info("📊 Generating Allure report from {} new result files: {}", newResults, builder.command());
+
+            if ("wait".equals(mode)) {
+                int exitCode = process.waitFor();
+                if (exitCode != 0) {
+                    logger.error("❌ Allure report generation failed with exit code {}, see {}", exitCode, LOG_PATH);
+                    return;
+                }
+                logger.info("✅ Allure report generated in {}", reportDir);
+                writeMarker(reportDir, startedAt);
+            } else {
+                logger.info("Allure report is being generated in the background, output in {}", LOG_PATH);
+                // Marked only on success; a failed or killed run is retried by the next suite
+                process.onExit().thenAccept(finished -> {
+                    if (finished.exitValue() != 0) {
+                        logger.error("❌ Allure report generation failed with exit code {}, see {}",
+                            finished.exitValue(), LOG_PATH);
+                        return;
+                    }
+                    try {
+                        writeMarker(reportDir, startedAt);
+                    } catch (IOException e) {
+                        logger.error("❌ Failed to write Allure report marker: {}", e.getMessage(), e);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("❌ Error generating Allure report: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the generation command, preferring the Allure command line over a Maven build
+     *
+     * @param resultsDir Allure results directory
+     * @param reportDir Report output directory
+     * @return Command and arguments
+     */
+    private static List<String> command(File resultsDir, File reportDir) {
+        boolean windows = System.getProperty("os.name").toLowerCase().contains("windows");
+        if (isOnPath(windows ? "allure.bat" : "allure")) {
+            List<String> allure = Arrays.asList("allure", "generate", resultsDir.getPath(),
+                "-o", reportDir.getPath(), "--clean");
+            return windows ? prepend("cmd.exe", "/c", allure) : allure;
+        }
+        List<String> maven = Arrays.asList("mvn", "-q", "allure:report");
+        return windows ? prepend("cmd.exe", "/c", maven) : maven;
+    }
+
+    private static List<String> prepend(String shell, String flag, List<String> command) {
+        List<String> full = new ArrayList<>(List.of(shell, flag));
+        full.addAll(command);
+        return full;
+    }
+
+    /**
+     * Check whether an executable exists in one of the PATH directories
+     *
+     * @param executable Executable file name
+     * @return true if found
+     */
+    static boolean isOnPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return false;
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            if (new File(dir, executable).canExecute()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count the result files written after the given time
+     *
+     * @param resultsDir Allure results directory
+     * @param since Epoch millis of the last generation
+     * @return Number of newer result files
+     * @throws IOException If the directory cannot be listed
+     */
+    private static long countResultsSince(File resultsDir, long since) throws IOException {
+        if (!resultsDir.isDirectory()) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(resultsDir.toPath())) {
+            return files.filter(Files::isRegularFile)
+                .filter(file -> file.toFile().lastModified() > since)
+                .count();
+        }
+    }
+
+    /**
+     * Copy the history of the previous report into the results so trends are kept
+     *
+     * @param reportDir Report directory
+     * @param resultsDir Allure results directory
+     * @throws IOException If the history cannot be copied
+     */
+    private static void copyHistory(File reportDir, File resultsDir) throws IOException {
+        File history = new File(reportDir, "history");
+        if (!history.isDirectory()) {
+            return;
+        }
+        Path target = new File(resultsDir, "history").toPath();
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(history.toPath())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static long readMarker(File reportDir) {
+        try {
+            File marker = markerFile(reportDir);
+            return marker.isFile()
+                ? Long.parseLong(new String(Files.readAllBytes(marker.toPath()), StandardCharsets.UTF_8).trim())
+                : 0;
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Remember when the report was generated. The marker is kept next to the report
+     * directory because "allure generate --clean" wipes the directory itself.
+     *
+     * @param reportDir Report directory
+     * @param generatedAt Epoch millis the generation started
+     * @throws IOException If the marker cannot be written
+     */
+    private static void writeMarker(File reportDir, long generatedAt) throws IOException {
+        File marker = markerFile(reportDir);
+        marker.getParentFile().mkdirs();
+        Files.write(marker.toPath(),
+            String.valueOf(generatedAt).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static File markerFile(File reportDir) {
+        return new File(reportDir.getAbsoluteFile().getParentFile(), reportDir.getName() + MARKER_FILE);
+    }
+
+    private static File prepareLog(File projectDir) {
+        File log = new File(projectDir, LOG_PATH);
+        log.getParentFile().mkdirs();
+        return log;
+    }
+
+    private static File resolve(File projectDir, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(projectDir, path);
+    }
+}
@@ -0,0 +1,172 @@
+package generic;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+
+/**
+ * Cache of authenticated browser state (cookies, localStorage and sessionStorage) per user.
+ *
+ * After one successful UI login the state is captured with {@link #capture(WebDriver, String)};
+ * later tests call {@link #restore(WebDriver, String, String)} to go straight to the dashboard.
+ * A rejected session is evicted so the caller can fall back to the UI login.
+ * Enabled with "auth.session.cache.enabled=true".
+ */
+public class AuthSessionCache {
+    private static final Logger logger = LoggerUtil.getLogger(AuthSessionCache.class);
+
+    private static final By DASHBOARD = By.xpath("//div[contains(@class,'dashboardLayout')]");
+    private static final By LOGIN_FIELD = By.id("phone-no");
+
+    private static final String READ_STORAGE_SCRIPT =
+        "var storage = arguments[0] === 'local' ? window.localStorage : window.sessionStorage;"
+        + "var values = {};"
+        + "for (var i = 0; i < storage.length; i++) { var key = storage.key(i); values[key] = storage.getItem(key); }"
+        + "return values;";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+        "var storage = arguments[0] === 'local' ? window.localStorage : window.sessionStorage;"
+        + "var values = arguments[1];"
+        + "for (var key in values) { storage.setItem(key, values[key]); }";
+
+    private static final Map<String, AuthSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private AuthSessionCache() {
+    }
+
+    /**
+     * Check whether the session cache is enabled
+     *
+     * @return true if tests should restore cached sessions instead of logging in
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Test_DataByPropertyFILE.getData("auth.session.cache.enabled", "false"));
+    }
+
+    /**
+     * Check whether a snapshot exists for the user
+     *
+     * @param username User the snapshot was captured for
+     * @return true if a snapshot is cached
+     */
+    public static boolean hasSnapshot(String username) {
+        return snapshots.containsKey(username);
+    }
+
+    /**
+     * Capture the authenticated state of the driver for the user.
+     * Must be called while the browser is on the application origin after login.
+     *
+     * @param driver Logged-in WebDriver
+     * @param username User the state belongs to
+     */
+    public static void capture(WebDriver driver, String username) {
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            AuthSnapshot snapshot = new AuthSnapshot(
+                driver.manage().getCookies(),
+                toStringMap(js.executeScript(READ_STORAGE_SCRIPT, "local")),
+                toStringMap(js.executeScript(READ_STORAGE_SCRIPT, "session")));
+            snapshots.put(username, snapshot);
+            logger.info("🔐 Captured session for {} ({} cookies, {} localStorage, {} sessionStorage entries)",
+                username, snapshot.cookies.size(), snapshot.localStorage.size(), snapshot.sessionStorage.size());
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to capture session for {}: {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Restore the cached state for the user and open the dashboard
+     *
+     * @param driver WebDriver to restore into
+     * @param username User whose snapshot should be restored
+     * @param baseUrl Application URL
+     * @return true if the dashboard loaded with the restored session, false if a UI login is needed
+     */
+    public static boolean restore(WebDriver driver, String username, String baseUrl) {
+        AuthSnapshot snapshot = snapshots.get(username);
+        if (snapshot == null) {
+            return false;
+        }
+        try {
+            // Cookies and storage can only be set on the application origin
+            driver.get(baseUrl);
+            for (Cookie cookie : snapshot.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript(WRITE_STORAGE_SCRIPT, "local", snapshot.localStorage);
+            js.executeScript(WRITE_STORAGE_SCRIPT, "session", snapshot.sessionStorage);
+            driver.get(baseUrl);
+
+            WebDriverWait wait = TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.LOGIN, AuthSessionCache.class);
+            wait.until(ExpectedConditions.or(
+                ExpectedConditions.presenceOfElementLocated(DASHBOARD),
+                ExpectedConditions.visibilityOfElementLocated(LOGIN_FIELD)));
+            if (!driver.findElements(DASHBOARD).isEmpty()) {
+                logger.info("✅ Restored cached session for {}", username);
+                return true;
+            }
+        } catch (Exception e) {
+            logger.debug("Session restore failed for {}: {}", username, e.getMessage());
+        }
+        logger.info("⚠️ Cached session for {} was rejected, falling back to UI login", username);
+        invalidate(username);
+        return false;
+    }
+
+    /**
+     * Drop the cached state for the user
+     *
+     * @param username User whose snapshot should be removed
+     */
+    public static void invalidate(String username) {
+        snapshots.remove(username);
+    }
+
+    /**
+     * Convert a map returned by executeScript to a map of strings
+     *
+     * @param scriptResult Result of a storage read script
+     * @return Map of storage keys to values
+     */
+    private static Map<String, String> toStringMap(Object scriptResult) {
+        Map<String, String> values = new HashMap<>();
+        if (scriptResult instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) scriptResult).entrySet()) {
+                values.put(String.valueOf(entry.getKey()),
+                    entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Immutable snapshot of an authenticated browser state
+     */
+    private static final class AuthSnapshot {
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+
+        private AuthSnapshot(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+            this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+            this.localStorage = Collections.unmodifiableMap(localStorage);
+            this.sessionStorage = Collections.unmodifiableMap(sessionStorage);
+        }
+    }
+}
@@ -3,9 +3,9 @@ package generic;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.By;
-import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
@@ -25,7 +25,10 @@ public class BasePage {
     private static final Logger logger = LoggerUtil.getLogger(BasePage.class);
     
     protected WebDriver driver;
+    // Shared per driver and page class, see TimeoutPolicy
     protected WebDriverWait wait;
+    // Polls faster than the default 500 ms so SmartWait conditions resolve promptly
+    protected WebDriverWait smartWait;
     protected JavascriptExecutor js;
     protected Actions actions;
 
@@ -36,11 +39,20 @@ public class BasePage {
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.wait = TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.ELEMENT, getClass());
+        this.smartWait = TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.CONDITION, getClass());
         this.js = (JavascriptExecutor) driver;
         this.actions = new Actions(driver);
     }
 
+    /**
+     * Initialize the @FindBy fields of the page object. Fields marked {@link PageCached}
+     * reuse their element until the page changes; all others are looked up on every access.
+     */
+    protected void initElements() {
+        PageFactory.initElements(new PageCacheDecorator(driver), this);
+    }
+
     /**
      * Wait for an element to be clickable
      * 
@@ -137,14 +149,60 @@ public class BasePage {
     }
 
     /**
-     * Wait for a specific duration
+     * Wait until the page reaches every given state, in order.
+     * {@link SmartWait#NETWORK_IDLE} is best effort like {@link #waitForAjaxComplete()}: a page
+     * that never goes quiet is logged and the remaining states are still waited for.
+     * 
+     * @param conditions Page states to wait for
+     */
+    protected void waitUntil(SmartWait... conditions) {
+        for (SmartWait condition : conditions) {
+            logger.debug("Waiting until {}", condition);
+            try {
+                smartWait.until(condition.condition());
+            } catch (TimeoutException e) {
+                if (condition != SmartWait.NETWORK_IDLE) {
+                    throw e;
+                }
+                logger.warn("⚠️ Network did not go idle, continuing: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Wait until the DOM has been free of mutations for the quiet period.
+     * The check runs inside the page through a MutationObserver, so it takes one
+     * WebDriver round trip instead of polling over the wire.
+     * 
+     * @param quietMillis Time without DOM mutations required
+     */
+    protected void waitForDomStable(long quietMillis) {
+        logger.debug("Waiting for DOM to be stable for {} ms", quietMillis);
+        wait.until(SmartWait.domStable(quietMillis));
+        logger.debug("DOM stable");
+    }
+    
+    /**
+     * Click an element once it is clickable, then wait for the resulting page states
+     * 
+     * @param element WebElement to click
+     * @param conditions Page states to wait for after the click
+     */
+    protected void clickAndWait(WebElement element, SmartWait... conditions) {
+        waitForElementToBeClickable(element).click();
+        waitUntil(conditions);
+    }
+    
+    /**
+     * Wait for a specific duration.
+     * Prefer {@link #waitUntil(SmartWait...)}; fixed sleeps are listed by {@link SleepReport}.
      * 
      * @param milliseconds Time to wait in milliseconds
      */
     protected void waitFor(long milliseconds) {
         try {
             logger.debug("Waiting for {} milliseconds", milliseconds);
-            Thread.sleep(milliseconds);
+            TimeAccount.sleep(milliseconds);
         } catch (InterruptedException e) {
             logger.warn("Wait interrupted: {}", e.getMessage());
             Thread.currentThread().interrupt();
@@ -164,21 +222,37 @@ public class BasePage {
     }
     
     /**
-     * Wait for AJAX calls to complete
+     * Wait for AJAX calls to complete. Best effort: a page that never goes quiet, e.g. because
+     * of a long-poll or analytics request, is logged and the step continues.
      */
     protected void waitForAjaxComplete() {
-        logger.debug("Waiting for AJAX calls to complete");
         try {
-            ExpectedCondition<Boolean> ajaxComplete = driver -> {
-                return (Boolean) ((JavascriptExecutor) driver)
-                        .executeScript("return jQuery.active == 0");
-            };
-            wait.until(ajaxComplete);
-            logger.debug("AJAX calls completed");
-        } catch (Exception e) {
-            // jQuery might not be present on the page
-            logger.debug("jQuery is not available on the page");
+            waitForNetworkIdle(Duration.ofMillis(SmartWait.QUIET_MILLIS),
+                TimeoutPolicy.timeout(TimeoutPolicy.Action.CONDITION, getClass()));
+        } catch (TimeoutException e) {
+            logger.warn("⚠️ Network did not go idle, continuing: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Wait until no XHR/fetch request has been in flight for the quiet period.
+     * Uses the DevTools network tracker of the session, falling back to
+     * {@link SmartWait#NETWORK_IDLE} when DevTools is not available.
+     * 
+     * @param quietPeriod Time without network activity required
+     * @param timeout Maximum time to wait
+     */
+    protected void waitForNetworkIdle(Duration quietPeriod, Duration timeout) {
+        logger.debug("Waiting for network idle ({} ms quiet)", quietPeriod.toMillis());
+        NetworkTracker tracker = NetworkTracker.attach(driver);
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.WAITING)) {
+            if (tracker != null) {
+                tracker.waitForNetworkIdle(quietPeriod, timeout);
+            } else {
+                new WebDriverWait(driver, timeout, Duration.ofMillis(100)).until(SmartWait.NETWORK_IDLE.condition());
+            }
         }
+        logger.debug("Network idle");
     }
     
     /**
@@ -204,27 +278,29 @@ public class BasePage {
     }
     
     /**
-     * Wait for element to be invisible
+     * Wait for element to be invisible. Checked first with {@link #isElementAbsent(WebElement)};
+     * only an element still visible after the negative timeout gets the full element timeout.
      * 
      * @param element WebElement to wait for
      * @return true if the element is invisible
      */
     protected boolean waitForElementInvisibility(WebElement element) {
         logger.debug("Waiting for element invisibility: {}", element);
-        boolean result = wait.until(ExpectedConditions.invisibilityOf(element));
+        boolean result = isElementAbsent(element) || wait.until(ExpectedConditions.invisibilityOf(element));
         logger.debug("Element invisibility result: {}", result);
         return result;
     }
     
     /**
-     * Wait for element to be invisible by locator
+     * Wait for element to be invisible by locator. Checked first with {@link #isElementAbsent(By)};
+     * only an element still visible after the negative timeout gets the full element timeout.
      * 
      * @param locator By locator to find the element
      * @return true if the element is invisible
      */
     protected boolean waitForElementInvisibility(By locator) {
         logger.debug("Waiting for element invisibility by locator: {}", locator);
-        boolean result = wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        boolean result = isElementAbsent(locator) || wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
         logger.debug("Element invisibility result: {}", result);
         return result;
     }
@@ -330,12 +406,46 @@ public class BasePage {
      * @return true if the element exists, false otherwise
      */
     protected boolean isElementExists(By locator) {
+        boolean exists = !driver.findElements(locator).isEmpty();
+        logger.debug("Element exists by locator {}: {}", locator, exists);
+        return exists;
+    }
+    
+    /**
+     * Fast negative check: true once no visible element matches the locator.
+     * Gives a disappearing element at most the NEGATIVE timeout of {@link TimeoutPolicy}
+     * (1 second by default) instead of the full element timeout.
+     * 
+     * @param locator By locator to find the element
+     * @return true if the element is absent or hidden, false if it is still visible
+     */
+    protected boolean isElementAbsent(By locator) {
         try {
-            driver.findElement(locator);
-            logger.debug("Element exists by locator: {}", locator);
+            TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.NEGATIVE, getClass())
+                .until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            logger.debug("Element is absent by locator: {}", locator);
             return true;
-        } catch (NoSuchElementException e) {
-            logger.debug("Element does not exist by locator: {}", locator);
+        } catch (TimeoutException e) {
+            logger.debug("Element is still visible by locator: {}", locator);
+            return false;
+        }
+    }
+    
+    /**
+     * Fast negative check of a page element, bounded by the NEGATIVE timeout like
+     * {@link #isElementAbsent(By)}
+     * 
+     * @param element WebElement to check
+     * @return true if the element is gone or hidden, false if it is still visible
+     */
+    protected boolean isElementAbsent(WebElement element) {
+        try {
+            TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.NEGATIVE, getClass())
+                .until(ExpectedConditions.invisibilityOf(element));
+            logger.debug("Element is absent: {}", element);
+            return true;
+        } catch (TimeoutException e) {
+            logger.debug("Element is still visible: {}", element);
             return false;
         }
     }
@@ -349,11 +459,76 @@ public class BasePage {
      */
     protected WebElement waitForElementWithTimeout(By locator, long timeoutInSeconds) {
         logger.debug("Waiting for element by locator with timeout of {} seconds: {}", timeoutInSeconds, locator);
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        WebElement element = customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WebElement element = TimeoutPolicy.waitFor(driver, Duration.ofSeconds(timeoutInSeconds))
+            .until(ExpectedConditions.visibilityOfElementLocated(locator));
         logger.debug("Element found within timeout");
         return element;
     }
+
+    /**
+     * Capture visibility, enabled state, text and bounding box of several elements
+     * with a single script call
+     *
+     * @param locators Locators to capture
+     * @return Immutable snapshot of the elements
+     */
+    protected PageSnapshot snapshot(By... locators) {
+        return snapshot(List.of(locators));
+    }
+
+    /**
+     * Capture the state and the given attributes of several elements with a single script call
+     *
+     * @param locators Locators to capture
+     * @param attributes Attribute names to read from every element
+     * @return Immutable snapshot of the elements
+     */
+    protected PageSnapshot snapshot(List<By> locators, String... attributes) {
+        PageSnapshot snapshot = PageSnapshot.capture(driver, locators, List.of(attributes));
+        logger.debug("Captured {}", snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Wait until the element is displayed with non-empty text and return the text.
+     * Each poll is one snapshot call instead of a find, a visibility check and a getText.
+     *
+     * @param locator By locator to find the element
+     * @return Trimmed text of the element
+     */
+    protected String waitForVisibleText(By locator) {
+        logger.debug("Waiting for visible text by locator: {}", locator);
+        return smartWait.until(d -> {
+            PageSnapshot.ElementState state = PageSnapshot.capture(d, List.of(locator), List.of()).get(locator);
+            return state.isDisplayed() && !state.getText().isEmpty() ? state.getText() : null;
+        });
+    }
+
+    /**
+     * Wait until any of the given locators matches a visible element, checking all of
+     * them in each poll instead of waiting out the full timeout per locator
+     * 
+     * @param locators Candidate locators, in order of preference
+     * @return The first visible matching WebElement
+     */
+    protected WebElement waitForFirstVisible(By... locators) {
+        logger.debug("Waiting for first visible element among {} locators", locators.length);
+        return wait.until(d -> {
+            for (By locator : locators) {
+                for (WebElement element : d.findElements(locator)) {
+                    try {
+                        if (element.isDisplayed()) {
+                            logger.debug("Found visible element by locator: {}", locator);
+                            return element;
+                        }
+                    } catch (StaleElementReferenceException e) {
+                        // Re-rendered between find and check, try the next match
+                    }
+                }
+            }
+            return null;
+        });
+    }
     
     /**
      * Wait for element with custom condition
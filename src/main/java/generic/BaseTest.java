@@ -3,54 +3,72 @@ package generic;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.By;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
-import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeTest;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.OutputType;
-import java.time.Duration;
+import org.testng.Reporter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import io.qameta.allure.Attachment;
+import pom_scripts.SignOutPOM;
 import io.qameta.allure.Step;
 import io.qameta.allure.Description;
 
 /**
  * BaseTest class that provides common functionality for all test classes.
  * This class handles browser setup, reporting configuration, and test cleanup.
+ * 
+ * Driver, wait and report state are confined to the executing thread so the suite
+ * can run with parallel="classes" or parallel="methods" (see {@link ParallelSuiteListener}).
  */
 public abstract class BaseTest implements Framework_Constants {
     private static final Logger logger = LoggerUtil.getLogger(BaseTest.class);
     
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected JavascriptExecutor js;
-    protected ExtentTest test;
+    private final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    // Every browser opened by this class instance, across all worker threads
+    private final Set<WebDriver> openDrivers = ConcurrentHashMap.newKeySet();
     protected String url = Test_DataByPropertyFILE.getData("base.url");
     protected String username = Test_DataByPropertyFILE.getData("corpstack_username");
     protected String password = Test_DataByPropertyFILE.getData("corpstack_password");
 
     /**
-     * Get the WebDriver instance
+     * Get the WebDriver instance of the current thread
      * 
      * @return WebDriver instance
      */
     public WebDriver getDriver() {
-        return driver;
+        return driver.get();
+    }
+
+    /**
+     * Get the shared element wait of the current thread's driver, using this class's
+     * timeout from {@link TimeoutPolicy}
+     * 
+     * @return WebDriverWait instance
+     */
+    protected WebDriverWait getWait() {
+        return TimeoutPolicy.waitFor(getDriver(), TimeoutPolicy.Action.ELEMENT, getClass());
+    }
+
+    /**
+     * Get the JavascriptExecutor for the current thread's driver
+     * 
+     * @return JavascriptExecutor instance
+     */
+    protected JavascriptExecutor getJs() {
+        return (JavascriptExecutor) driver.get();
     }
 
     /**
@@ -79,8 +97,8 @@ public abstract class BaseTest implements Framework_Constants {
     public void initTest() {
         try {
             // Create test object for the class
-            test = ExtentReportManager.getTest(getClass().getName(), getClass().getSimpleName(), 
-                "Test execution for " + getClass().getSimpleName());
+            test.set(ExtentReportManager.getTest(getClass().getName(), getClass().getSimpleName(), 
+                "Test execution for " + getClass().getSimpleName()));
             logger.debug("Test object initialized for {}", getClass().getSimpleName());
         } catch (Exception e) {
             logger.error("❌ Failed to initialize test object: " + e.getMessage(), e);
@@ -95,22 +113,29 @@ public abstract class BaseTest implements Framework_Constants {
     @Step("Browser Setup")
     @Description("Initializing Chrome browser and setting up WebDriver")
     public void openBrowser(ITestContext context) {
+        startBrowser();
+    }
+    
+    /**
+     * Start a Chrome browser for the current thread if it does not have one yet.
+     * With parallel="methods" the worker threads differ from the @BeforeClass thread,
+     * so each of them lazily gets its own browser here.
+     */
+    private void startBrowser() {
+        if (driver.get() != null) {
+            return;
+        }
         try {
-            logger.info("🔧 Setting up Chrome browser");
-            
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--remote-allow-origins=*");
-            driver = new ChromeDriver(options);
+            logger.info("🔧 Setting up Chrome browser on thread {}", Thread.currentThread().getName());
             
-            driver.manage().window().maximize();
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-            wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-            js = (JavascriptExecutor) driver;
-            
-            // Set driver in test context for ListenerClass
-            context.setAttribute("driver", driver);
-            logger.debug("WebDriver initialized and set in test context");
+            WebDriver chromeDriver = WebDriverPool.isEnabled()
+                ? WebDriverPool.getInstance().borrow()
+                : WebDriverPool.createChromeDriver();
+            NetworkTracker.attach(chromeDriver);
+            WebDriver timedDriver = CommandTimer.decorate(chromeDriver);
+            driver.set(timedDriver);
+            openDrivers.add(timedDriver);
+            logger.debug("WebDriver initialized for thread {}", Thread.currentThread().getName());
             
         } catch (Exception e) {
             logger.error("❌ Failed to initialize browser: " + e.getMessage(), e);
@@ -127,13 +152,28 @@ public abstract class BaseTest implements Framework_Constants {
     @Step("Login Process")
     @Description("Logging into the application")
     public void login() throws InterruptedException {
+        startBrowser();
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.LOGIN)) {
+            signIn(getDriver());
+        }
+    }
+
+    /**
+     * Sign in with the configured user, or restore the cached session
+     * 
+     * @param driver WebDriver of the current thread
+     */
+    private void signIn(WebDriver driver) {
+        if (AuthSessionCache.isEnabled() && AuthSessionCache.restore(driver, username, url)) {
+            return;
+        }
         try {
             // Step 1: Navigate to URL
             driver.get(url);
             logger.info("Login process started - Navigating to URL: {}", url);
 
             // Step 2: Enter Phone Number
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = TimeoutPolicy.waitFor(driver, TimeoutPolicy.Action.LOGIN, getClass());
             WebElement phoneField = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath("//input[@id='phone-no']")));
             phoneField.clear();
             phoneField.sendKeys(username);
@@ -159,6 +199,10 @@ public abstract class BaseTest implements Framework_Constants {
             wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath("//div[contains(@class,'dashboardLayout')]")));
             logger.info("✅ Login process completed successfully");
             
+            if (AuthSessionCache.isEnabled()) {
+                AuthSessionCache.capture(driver, username);
+            }
+            
         } catch (Exception e) {
             logger.error("❌ Login process failed: " + e.getMessage(), e);
             throw e;
@@ -172,6 +216,9 @@ public abstract class BaseTest implements Framework_Constants {
      */
     @AfterMethod
     public void handleTestResult(ITestResult result) {
+        WebDriver driver = getDriver();
+        ExtentTest test = currentTest();
+        
         // Check if the test has the retry analyzer
         boolean hasRetryAnalyzer = result.getMethod().getRetryAnalyzer(result) != null;
         
@@ -191,13 +238,10 @@ public abstract class BaseTest implements Framework_Constants {
                 int maxRetryCount = retryAnalyzer.getMaxRetryCount();
                 
                 // Don't log as failure if it will be retried
-                if (test == null) {
-                    test = ExtentReportManager.getCurrentTest();
-                }
                 if (test != null) {
-                    test.log(Status.WARNING, "Test Failed but will be retried: " + result.getThrowable());
+                    ReportBus.log(test, Status.WARNING, "Test Failed but will be retried: " + result.getThrowable());
                 }
-                saveScreenshot(driver);
+                ScreenshotService.captureFailure(driver, result, test);
                 logger.warn("⚠️ Test failed but will be retried: {} (Attempt {} of {})", 
                            result.getName(), currentRetryCount, maxRetryCount);
                 return; // Skip sign out if the test will be retried
@@ -206,44 +250,43 @@ public abstract class BaseTest implements Framework_Constants {
         
         // Handle final test result
         if (result.getStatus() == ITestResult.FAILURE) {
-            if (test == null) {
-                test = ExtentReportManager.getCurrentTest();
-            }
             if (test != null) {
-                test.log(Status.FAIL, "Test Failed: " + result.getThrowable());
+                ReportBus.log(test, Status.FAIL, "Test Failed: " + result.getThrowable());
             }
-            saveScreenshot(driver);
+            ScreenshotService.captureFailure(driver, result, test);
             if (hasRetryAnalyzer) {
                 logger.error("❌ Test failed after all retry attempts: {}", result.getName());
             } else {
                 logger.error("❌ Test failed: {}", result.getName());
             }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
-            if (test == null) {
-                test = ExtentReportManager.getCurrentTest();
-            }
             if (test != null) {
                 // Check if the test passed after retries
                 Object retryCountObj = result.getAttribute("RETRY_COUNT");
                 if (retryCountObj != null) {
                     int retryCount = (Integer) retryCountObj;
-                    test.log(Status.PASS, "Test Passed after " + retryCount + " retry attempts");
+                    ReportBus.log(test, Status.PASS, "Test Passed after " + retryCount + " retry attempts");
                     logger.info("✅ Test passed after {} retry attempts: {}", retryCount, result.getName());
                 } else {
-                    test.log(Status.PASS, "Test Passed");
+                    ReportBus.log(test, Status.PASS, "Test Passed");
                     logger.info("✅ Test passed: {}", result.getName());
                 }
             }
         } else {
-            if (test == null) {
-                test = ExtentReportManager.getCurrentTest();
-            }
             if (test != null) {
-                test.log(Status.SKIP, "Test Skipped");
+                ReportBus.log(test, Status.SKIP, "Test Skipped");
                 logger.info("⏭️ Test skipped: {}", result.getName());
             }
         }
+        CommandTimer.reportTest(test, result);
+        ExtentReportManager.completeTest(result.getTestClass().getName(), ExtentReportManager.testName(result));
 
+        // Signing out would revoke the cached session the next test restores
+        if (AuthSessionCache.isEnabled()) {
+            logger.debug("Session cache enabled, skipping sign out");
+            return;
+        }
+        
         // Sign out after test completion
         try {
             signOut();
@@ -259,58 +302,10 @@ public abstract class BaseTest implements Framework_Constants {
     @Step("Sign Out Process")
     @Description("Signing out from the application")
     public void signOut() throws InterruptedException {
-        try {
-            Thread.sleep(3000);
-            logger.info("🔍 SignOut Process started");
-
-            // Try multiple possible XPaths for profile icon
-            WebElement profileIcon = null;
-            try {
-                profileIcon = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//div[contains(@class,'profileIcon')]")));
-                logger.debug("Found profile icon using first XPath");
-            } catch (Exception e) {
-                try {
-                    profileIcon = wait.until(ExpectedConditions.presenceOfElementLocated(
-                        By.xpath("//div[contains(@class,'hw-avatar-container')]")));
-                    logger.debug("Found profile icon using second XPath");
-                } catch (Exception e2) {
-                    profileIcon = wait.until(ExpectedConditions.presenceOfElementLocated(
-                        By.xpath("//div[contains(@class,'user-avatar')]")));
-                    logger.debug("Found profile icon using third XPath");
-                }
-            }
-            
-            // Try JavaScript click if regular click fails
-            try {
-                profileIcon.click();
-                logger.debug("Clicked profile icon using regular click");
-            } catch (Exception e) {
-                js.executeScript("arguments[0].click();", profileIcon);
-                logger.debug("Clicked profile icon using JavaScript click");
-            }
-
-            logger.info("🔍 Step 2: Looking for Sign Out option...");
-            // Use the simpler XPath for Sign Out
-            WebElement signOutOption = wait.until(ExpectedConditions.presenceOfElementLocated(
-                By.xpath("//div[contains(text(),'Sign Out')]")));
-            
-            // Try JavaScript click if regular click fails
-            try {
-                logger.debug("⏳ Attempting regular click on Sign Out...");
-                signOutOption.click();
-            } catch (Exception e) {
-                logger.debug("⚠️ Regular click failed, trying JavaScript click...");
-                js.executeScript("arguments[0].click();", signOutOption);
-            }
-
-            // Wait for login page to be ready after sign out
-            wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("phone-no")));
-            logger.info("✅ Login page loaded after sign out");
-            
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.LOGIN)) {
+            new SignOutPOM(getDriver()).signOut();
         } catch (Exception e) {
             logger.error("❌ Sign out failed: {}", e.getMessage(), e);
-            saveScreenshot(driver);
             // Don't throw the exception, just log it
         }
     }
@@ -322,40 +317,73 @@ public abstract class BaseTest implements Framework_Constants {
     @Step("Browser Cleanup")
     @Description("Closing the browser after test execution")
     public void closeBrowser() {
-        try {
-            if (driver != null) {
-                driver.quit();
-                logger.info("✅ Browser closed successfully");
+        boolean pooled = WebDriverPool.isEnabled();
+        for (WebDriver openDriver : openDrivers) {
+            TimeoutPolicy.release(openDriver);
+            try {
+                if (pooled) {
+                    WebDriverPool.getInstance().release(CommandTimer.unwrap(openDriver));
+                    logger.info("✅ Browser returned to pool");
+                } else {
+                    NetworkTracker.detach(openDriver);
+                    openDriver.quit();
+                    logger.info("✅ Browser closed successfully");
+                }
+            } catch (Exception e) {
+                logger.error("❌ Failed to close browser: {}", e.getMessage(), e);
             }
-        } catch (Exception e) {
-            logger.error("❌ Failed to close browser: {}", e.getMessage(), e);
         }
+        openDrivers.clear();
+        driver.remove();
     }
 
     /**
-     * Finalize and close the test report after test execution
+     * Complete the class-level report entry created in {@link #initTest()}, also when a
+     * failed @BeforeClass skipped the class, so that its report part can be released
      */
-    @AfterTest
-    @Step("Report Cleanup")
-    @Description("Finalizing and closing the test report")
-    public void repClose() {
-        try {
-            ExtentReportManager.flush();
-            logger.info("📊 Test Report generated successfully");
-        } catch (Exception e) {
-            logger.error("❌ Failed to generate extent report: {}", e.getMessage(), e);
-        }
+    @AfterClass(alwaysRun = true)
+    public void completeClassTest() {
+        ExtentReportManager.completeTest(getClass().getName(), getClass().getSimpleName());
     }
 
     /**
-     * Take screenshot and attach to Allure report
+     * Take the failure screenshot of the running test and attach it to the Extent and
+     * Allure reports. Repeated calls for the same test return the first capture.
      * 
      * @param driver WebDriver instance
-     * @return Screenshot as byte array
+     * @return Screenshot as byte array, or null if it could not be taken
      */
-    @Attachment(value = "Page Screenshot", type = "image/png")
     public byte[] saveScreenshot(WebDriver driver) {
-        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        ScreenshotService.Screenshot screenshot =
+            ScreenshotService.captureFailure(driver, Reporter.getCurrentTestResult(), currentTest());
+        return screenshot == null ? null : screenshot.getBytes();
+    }
+    
+    /**
+     * Resolve the ExtentTest for the current thread: the class-level test set by
+     * {@link #initTest()}, else the test registered by ListenerClass for the running method.
+     * The fallback is looked up on every call, as a worker thread runs many methods.
+     * 
+     * @return ExtentTest object, or null if none is registered yet
+     */
+    private ExtentTest currentTest() {
+        ExtentTest current = test.get();
+        return current != null ? current : ExtentReportManager.getCurrentTest();
+    }
+    
+    /**
+     * Resolve the ExtentTest for the current thread, creating a class-level one if needed
+     * 
+     * @return ExtentTest object
+     */
+    private ExtentTest requireTest() {
+        ExtentTest current = currentTest();
+        if (current == null) {
+            current = ExtentReportManager.getTest(getClass().getName(), getClass().getSimpleName(), 
+                "Test execution for " + getClass().getSimpleName());
+            test.set(current);
+        }
+        return current;
     }
     
     /**
@@ -365,15 +393,11 @@ public abstract class BaseTest implements Framework_Constants {
      * @param message Success message
      */
     protected void reportPass(String testId, String message) {
-        if (test == null) {
-            test = ExtentReportManager.getCurrentTest();
-            if (test == null) {
-                test = ExtentReportManager.getTest(getClass().getName(), getClass().getSimpleName(), 
-                    "Test execution for " + getClass().getSimpleName());
-            }
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.REPORTING)) {
+            ReportBus.log(requireTest(), Status.PASS, testId + ": " + message);
+            ResultJournal.step(Reporter.getCurrentTestResult(), "PASS", testId + ": " + message);
+            logger.info("✅ {}: {}", testId, message);
         }
-        test.log(Status.PASS, testId + ": " + message);
-        logger.info("✅ {}: {}", testId, message);
     }
     
     /**
@@ -383,15 +407,11 @@ public abstract class BaseTest implements Framework_Constants {
      * @param message Failure message
      */
     protected void reportFail(String testId, String message) {
-        if (test == null) {
-            test = ExtentReportManager.getCurrentTest();
-            if (test == null) {
-                test = ExtentReportManager.getTest(getClass().getName(), getClass().getSimpleName(), 
-                    "Test execution for " + getClass().getSimpleName());
-            }
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.REPORTING)) {
+            ReportBus.log(requireTest(), Status.FAIL, testId + ": " + message);
+            ResultJournal.step(Reporter.getCurrentTestResult(), "FAIL", testId + ": " + message);
+            logger.error("❌ {}: {}", testId, message);
+            saveScreenshot(getDriver());
         }
-        test.log(Status.FAIL, testId + ": " + message);
-        logger.error("❌ {}: {}", testId, message);
-        saveScreenshot(driver);
     }
 }
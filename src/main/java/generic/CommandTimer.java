@@ -0,0 +1,265 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Times every WebDriver command of the run.
+ *
+ * {@link #decorate(WebDriver)} wraps a driver with an EventFiringDecorator whose listener
+ * measures each call (findElement, click, executeScript, get, ...) and records it in latency
+ * histograms per command, per calling page object method, per locator and per test. Each test
+ * gets its own command table in the report, and {@link #publish()} adds a suite summary to
+ * the Extent report and writes all histograms as JSON. The same listener books command time
+ * as interacting in {@link TimeAccount}. Configured through:
+ *
+ *   timing.enabled=true
+ *   timing.dir=test-output/timings
+ */
+public final class CommandTimer {
+    private static final Logger logger = LoggerUtil.getLogger(CommandTimer.class);
+
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(Test_DataByPropertyFILE.getData("timing.enabled", "true"));
+    private static final int REPORT_ROWS = 15;
+    private static final StackWalker STACK = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byPage = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byLocator = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byTest = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, LatencyHistogram>> byTestCommand = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private CommandTimer() {
+    }
+
+    /**
+     * Check whether command timing is enabled
+     *
+     * @return true if "timing.enabled" is set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wrap a driver so that all of its commands are timed
+     *
+     * @param driver Driver to wrap
+     * @return Timed driver, or the driver itself if timing is disabled
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if ((!ENABLED && !TimeAccount.isEnabled()) || driver == null) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new TimingListener()).decorate(driver);
+    }
+
+    /**
+     * Get the driver behind a timed driver
+     *
+     * @param driver Timed or plain driver
+     * @return The underlying driver
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        return driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+    }
+
+    /**
+     * Log the command timings of a finished test to its report entry
+     *
+     * @param test Report entry of the test
+     * @param result Finished test result
+     */
+    public static void reportTest(ExtentTest test, ITestResult result) {
+        Map<String, LatencyHistogram> commands = byTestCommand.get(testKey(result));
+        if (test == null || commands == null || commands.isEmpty()) {
+            return;
+        }
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(commands, REPORT_ROWS)));
+    }
+
+    /**
+     * Add the suite timing summary to the Extent report and write all histograms as JSON
+     */
+    public static void publish() {
+        if (!ENABLED || byCommand.isEmpty()) {
+            return;
+        }
+        ExtentTest test = ExtentReportManager.getTest(CommandTimer.class.getName(), "WebDriver Command Timings",
+            "Latency of WebDriver commands per command, page object method, locator and test");
+        ReportBus.log(test, Status.INFO, "Per command");
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(byCommand, REPORT_ROWS)));
+        ReportBus.log(test, Status.INFO, "Slowest page object methods");
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(byPage, REPORT_ROWS)));
+        ReportBus.log(test, Status.INFO, "Slowest locators");
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(byLocator, REPORT_ROWS)));
+        ReportBus.log(test, Status.INFO, "Slowest tests");
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(byTest, REPORT_ROWS)));
+        ExtentReportManager.completeTest(CommandTimer.class.getName(), "WebDriver Command Timings");
+
+        Map<String, Object> artifact = new LinkedHashMap<>();
+        artifact.put("commands", summaries(byCommand));
+        artifact.put("pages", summaries(byPage));
+        artifact.put("locators", summaries(byLocator));
+        artifact.put("tests", summaries(byTest));
+        Map<String, Object> testCommands = new LinkedHashMap<>();
+        byTestCommand.forEach((testName, commands) -> testCommands.put(testName, summaries(commands)));
+        artifact.put("testCommands", testCommands);
+        try {
+            File dir = new File(Test_DataByPropertyFILE.getData("timing.dir", "test-output/timings"));
+            dir.mkdirs();
+            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+            File file = new File(dir, "command-timings_" + timestamp + ".json");
+            Files.write(file.toPath(), new Json().toJson(artifact).getBytes(StandardCharsets.UTF_8));
+            logger.info("⏱️ WebDriver command timings written to {}", file.getPath());
+        } catch (IOException e) {
+            logger.error("❌ Failed to write command timings: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Record one timed command under all of its keys
+     *
+     * @param command Command name
+     * @param args Command arguments
+     * @param nanos Command latency
+     */
+    private static void record(String command, Object[] args, long nanos) {
+        byCommand.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+        byPage.computeIfAbsent(callingPage(), key -> new LatencyHistogram()).record(nanos);
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            byLocator.computeIfAbsent(args[0].toString(), key -> new LatencyHistogram()).record(nanos);
+        }
+        String testName = testKey(Reporter.getCurrentTestResult());
+        byTest.computeIfAbsent(testName, key -> new LatencyHistogram()).record(nanos);
+        byTestCommand.computeIfAbsent(testName, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Find the page object method that issued the current command
+     *
+     * @return "Package.Page.method", or "(test code)" for commands outside page objects
+     */
+    private static String callingPage() {
+        return STACK.walk(frames -> frames
+            .filter(frame -> BasePage.class.isAssignableFrom(frame.getDeclaringClass())
+                && frame.getDeclaringClass() != BasePage.class)
+            .findFirst()
+            .map(frame -> frame.getClassName().replace("pom_scripts.", "") + "." + frame.getMethodName())
+            .orElse("(test code)"));
+    }
+
+    private static String testKey(ITestResult result) {
+        if (result == null) {
+            return "(outside tests)";
+        }
+        return result.getTestClass().getName() + "." + ExtentReportManager.testName(result);
+    }
+
+    /**
+     * Render histograms as a report table, slowest total first
+     *
+     * @param histograms Histograms by name
+     * @param rows Maximum number of rows
+     * @return Table cells including the header row
+     */
+    private static String[][] table(Map<String, LatencyHistogram> histograms, int rows) {
+        List<Map.Entry<String, LatencyHistogram>> entries = sorted(histograms);
+        int size = Math.min(rows, entries.size());
+        String[][] cells = new String[size + 1][];
+        cells[0] = new String[] { "Name", "Count", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Max ms" };
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> summary = entries.get(i).getValue().summary();
+            cells[i + 1] = new String[] { entries.get(i).getKey(), String.valueOf(summary.get("count")),
+                String.valueOf(summary.get("totalMs")), String.valueOf(summary.get("p50Ms")),
+                String.valueOf(summary.get("p95Ms")), String.valueOf(summary.get("p99Ms")),
+                String.valueOf(summary.get("maxMs")) };
+        }
+        return cells;
+    }
+
+    private static Map<String, Object> summaries(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> summaries = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : sorted(histograms)) {
+            summaries.put(entry.getKey(), entry.getValue().summary());
+        }
+        return summaries;
+    }
+
+    private static List<Map.Entry<String, LatencyHistogram>> sorted(Map<String, LatencyHistogram> histograms) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingDouble(
+            (Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getTotalMillis()).reversed());
+        return entries;
+    }
+
+    /**
+     * Listener that measures every call made through the decorated driver, its elements,
+     * navigation and options. Calls can nest, e.g. a wait condition that finds an element,
+     * so the start times of the open calls are kept on a per-thread stack.
+     */
+    private static final class TimingListener implements WebDriverListener {
+        private final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+        private final ThreadLocal<Deque<TimeAccount.Activity>> activities = ThreadLocal.withInitial(ArrayDeque::new);
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            activities.get().push(TimeAccount.begin(TimeAccount.Category.INTERACTING));
+            started.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(method, args);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(method, args);
+        }
+
+        private void finish(Method method, Object[] args) {
+            Long start = started.get().poll();
+            if (start != null && ENABLED) {
+                record(method.getName(), args, System.nanoTime() - start);
+            }
+            TimeAccount.Activity activity = activities.get().poll();
+            if (activity != null) {
+                activity.close();
+            }
+        }
+    }
+}
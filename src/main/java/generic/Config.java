@@ -0,0 +1,311 @@
+package generic;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+
+/**
+ * Single configuration service of the framework.
+ *
+ * Settings are parsed once into an immutable snapshot and looked up in layers, the first
+ * one that has a non-blank value wins:
+ *
+ *   1. system property            -Demail.smtp.port=465
+ *   2. environment variable       CORPSTACK_EMAIL_SMTP_PORT=465 (upper case, non-alphanumerics as _)
+ *   3. per-environment file       property/test_data.&lt;env&gt;.properties
+ *   4. base file                  property/test_data.properties
+ *
+ * Environment variables need the CORPSTACK_ prefix, so that unrelated variables such as
+ * BROWSER or USER never replace a configured value.
+ * The environment is chosen by "config.env" (system property, CORPSTACK_CONFIG_ENV or the base file).
+ * The files are read again only when their modification time changes, checked at most once
+ * per second, and typed values are parsed once per raw value.
+ */
+public final class Config implements Framework_Constants {
+    private static final Logger logger = LoggerUtil.getLogger(Config.class);
+
+    private static final long RELOAD_CHECK_MILLIS = 1_000;
+    private static final String ENV_PREFIX = "CORPSTACK_";
+
+    private static volatile Snapshot snapshot;
+    private static volatile long lastCheck;
+    private static final Map<String, Typed> typed = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Config() {
+    }
+
+    /**
+     * Get a setting
+     *
+     * @param key Setting key
+     * @return Trimmed value, or null if the key is not configured in any layer
+     */
+    public static String get(String key) {
+        String value = System.getProperty(key);
+        if (isBlank(value)) {
+            Snapshot current = current();
+            value = current.environment.get(envName(key));
+            if (isBlank(value)) {
+                value = current.values.get(key);
+            }
+        }
+        return isBlank(value) ? null : value.trim();
+    }
+
+    /**
+     * Get a setting with a default
+     *
+     * @param key Setting key
+     * @param defaultValue Value used when the key is not configured
+     * @return Configured value or the default
+     */
+    public static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get an integer setting
+     *
+     * @param key Setting key
+     * @param defaultValue Value used when the key is not configured
+     * @return Configured value or the default
+     * @throws IllegalStateException If the value is not an integer
+     */
+    public static int getInt(String key, int defaultValue) {
+        return parse(key, "int", Integer::valueOf, defaultValue);
+    }
+
+    /**
+     * Get a long setting
+     *
+     * @param key Setting key
+     * @param defaultValue Value used when the key is not configured
+     * @return Configured value or the default
+     * @throws IllegalStateException If the value is not a number
+     */
+    public static long getLong(String key, long defaultValue) {
+        return parse(key, "long", Long::valueOf, defaultValue);
+    }
+
+    /**
+     * Get a decimal setting
+     *
+     * @param key Setting key
+     * @param defaultValue Value used when the key is not configured
+     * @return Configured value or the default
+     * @throws IllegalStateException If the value is not a number
+     */
+    public static double getDouble(String key, double defaultValue) {
+        return parse(key, "double", Double::valueOf, defaultValue);
+    }
+
+    /**
+     * Get a boolean setting
+     *
+     * @param key Setting key
+     * @param defaultValue Value used when the key is not configured
+     * @return true if the value is "true" (ignoring case), the default if not configured
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return parse(key, "boolean", Boolean::valueOf, defaultValue);
+    }
+
+    /**
+     * Get a comma separated list setting
+     *
+     * @param key Setting key
+     * @return Unmodifiable list of the trimmed, non-empty items; empty if not configured
+     */
+    public static List<String> getList(String key) {
+        return parse(key, "list", value -> Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toUnmodifiableList()), Collections.emptyList());
+    }
+
+    /**
+     * Get the name of the active environment
+     *
+     * @return Environment name, or null when only the base file is used
+     */
+    public static String getEnvironment() {
+        return current().env;
+    }
+
+    /**
+     * Parse a setting once per raw value and reuse the result until the value changes
+     *
+     * @param key Setting key
+     * @param type Name of the target type, part of the cache key
+     * @param parser Parser of the raw value
+     * @param defaultValue Value used when the key is not configured
+     * @return Parsed value or the default
+     */
+    private static <T> T parse(String key, String type, Function<String, T> parser, T defaultValue) {
+        String raw = get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        String cacheKey = type + ":" + key;
+        Typed cached = typed.get(cacheKey);
+        if (cached != null && cached.raw.equals(raw)) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.value;
+            return value;
+        }
+        try {
+            T value = parser.apply(raw);
+            typed.put(cacheKey, new Typed(raw, value));
+            return value;
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Setting '" + key + "' is not a valid " + type + ": " + raw, e);
+        }
+    }
+
+    /**
+     * Get the current snapshot, reloading it when a configuration file has changed
+     *
+     * @return Current snapshot
+     */
+    private static Snapshot current() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current != null && now - lastCheck < RELOAD_CHECK_MILLIS) {
+            return current;
+        }
+        synchronized (Config.class) {
+            current = snapshot;
+            if (current == null || (now - lastCheck >= RELOAD_CHECK_MILLIS && current.isStale())) {
+                current = load();
+                snapshot = current;
+            }
+            lastCheck = now;
+            return current;
+        }
+    }
+
+    /**
+     * Read the base file, the environment and the per-environment file
+     *
+     * @return New snapshot
+     */
+    private static Snapshot load() {
+        File baseFile = new File(System.getProperty("user.dir"), PROPERTY_PATH);
+        Map<String, String> values = new HashMap<>(read(baseFile));
+
+        Map<String, String> environment = new HashMap<>();
+        System.getenv().forEach(environment::put);
+
+        String env = System.getProperty("config.env");
+        if (isBlank(env)) {
+            env = environment.get(envName("config.env"));
+        }
+        if (isBlank(env)) {
+            env = values.get("config.env");
+        }
+        File envFile = null;
+        if (!isBlank(env)) {
+            env = env.trim();
+            envFile = new File(baseFile.getParentFile(), baseFile.getName().replace(".properties", "." + env + ".properties"));
+            if (envFile.isFile()) {
+                values.putAll(read(envFile));
+            } else {
+                logger.warn("⚠️ Configuration file for environment '{}' not found: {}", env, envFile.getPath());
+            }
+        } else {
+            env = null;
+        }
+        logger.debug("Configuration loaded from {}{}", baseFile.getPath(),
+            envFile != null && envFile.isFile() ? " and " + envFile.getPath() : "");
+        return new Snapshot(env, Map.copyOf(values), Map.copyOf(environment), baseFile, envFile);
+    }
+
+    private static Map<String, String> read(File file) {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.error("❌ Could not load properties file {}: {}", file.getPath(), e.getMessage());
+        }
+        Map<String, String> values = new HashMap<>();
+        properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+        return values;
+    }
+
+    /**
+     * Environment variable name of a setting, e.g. email.smtp.port becomes CORPSTACK_EMAIL_SMTP_PORT
+     *
+     * @param key Setting key
+     * @return Variable name
+     */
+    private static String envName(String key) {
+        StringBuilder name = new StringBuilder(ENV_PREFIX.length() + key.length()).append(ENV_PREFIX);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            name.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return name.toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Immutable view of the configuration files and environment at load time
+     */
+    private static final class Snapshot {
+        private final String env;
+        private final Map<String, String> values;
+        private final Map<String, String> environment;
+        private final File baseFile;
+        private final File envFile;
+        private final long baseModified;
+        private final long envModified;
+
+        private Snapshot(String env, Map<String, String> values, Map<String, String> environment,
+                File baseFile, File envFile) {
+            this.env = env;
+            this.values = values;
+            this.environment = environment;
+            this.baseFile = baseFile;
+            this.envFile = envFile;
+            this.baseModified = baseFile.lastModified();
+            this.envModified = envFile == null ? 0 : envFile.lastModified();
+        }
+
+        private boolean isStale() {
+            return baseFile.lastModified() != baseModified
+                || (envFile != null && envFile.lastModified() != envModified);
+        }
+    }
+
+    /**
+     * Parsed value together with the raw value it was parsed from
+     */
+    private static final class Typed {
+        private final String raw;
+        private final Object value;
+
+        private Typed(String raw, Object value) {
+            this.raw = raw;
+            this.value = value;
+        }
+    }
+}
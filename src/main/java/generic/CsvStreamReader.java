@@ -0,0 +1,175 @@
+package generic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming reader for CSV files that yields the same {@link ExcelRow}s as {@link ExcelStreamReader}.
+ *
+ * The file is read one record at a time. The first record is the header and blank records
+ * are skipped. Fields may be quoted, with "" for a quote and line breaks inside the quotes.
+ * A record with more fields than the header keeps the surplus in its last column, so free
+ * text such as "Click on export button, verify download success" can be left unquoted.
+ */
+public final class CsvStreamReader implements Iterator<ExcelRow>, AutoCloseable {
+    private final BufferedReader reader;
+    private final Map<String, Integer> header;
+    private final int columns;
+    private int recordNumber = -1;
+    private ExcelRow next;
+
+    /**
+     * Open a CSV file for streaming
+     *
+     * @param filePath Path to the CSV file
+     * @throws IOException If the file cannot be opened or has no header
+     */
+    public CsvStreamReader(String filePath) throws IOException {
+        this.reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+        List<String> headerCells = readRecord();
+        if (headerCells == null) {
+            reader.close();
+            throw new IOException("CSV file " + filePath + " has no header row");
+        }
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (int i = 0; i < headerCells.size(); i++) {
+            index.put(headerCells.get(i).trim(), i);
+        }
+        this.header = Collections.unmodifiableMap(index);
+        this.columns = headerCells.size();
+    }
+
+    /**
+     * Stream the data rows of a CSV file. The stream must be closed, e.g. with try-with-resources.
+     *
+     * @param filePath Path to the CSV file
+     * @return Lazy stream of rows
+     * @throws IOException If the file cannot be opened
+     */
+    public static Stream<ExcelRow> stream(String filePath) throws IOException {
+        CsvStreamReader reader = new CsvStreamReader(filePath);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(reader::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null) {
+                List<String> fields = readRecord();
+                if (fields == null) {
+                    return false;
+                }
+                next = toRow(fields);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ExcelRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ExcelRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Close the file
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+
+    /**
+     * Build a row from the fields of a record
+     *
+     * @param fields Fields of the record
+     * @return Row, or null for a blank record
+     */
+    private ExcelRow toRow(List<String> fields) {
+        String[] values = new String[columns];
+        boolean hasData = false;
+        for (int i = 0; i < fields.size() && columns > 0; i++) {
+            int column = Math.min(i, columns - 1);
+            String value = fields.get(i);
+            values[column] = values[column] == null ? value : values[column] + "," + value;
+            hasData |= !value.trim().isEmpty();
+        }
+        return hasData ? new ExcelRow(header, values, recordNumber) : null;
+    }
+
+    /**
+     * Read the next record, which may span lines inside quoted fields
+     *
+     * @return Fields of the record, or null at the end of the file
+     * @throws IOException If the file cannot be read
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        recordNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
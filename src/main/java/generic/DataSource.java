@@ -0,0 +1,57 @@
+package generic;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the rows a data-driven test runs with, for {@link DataSourceProvider}.
+ *
+ * <pre>
+ * &#64;DataSource(file = "test cases/wallet_data.csv", columns = {"Amount", "Comment"}, tags = "load")
+ * &#64;Test(dataProvider = DataSourceProvider.ROWS, dataProviderClass = DataSourceProvider.class)
+ * public void testLoad(int amount, String comment) { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DataSource {
+
+    /**
+     * Path of the .xlsx or .csv file, relative to the project directory; empty for the
+     * "data.source.file" setting
+     *
+     * @return File path
+     */
+    String file() default "";
+
+    /**
+     * Sheet of an Excel file; empty for the first sheet
+     *
+     * @return Sheet name
+     */
+    String sheet() default "";
+
+    /**
+     * Columns bound to the test method parameters, in parameter order. Empty when the method
+     * takes the whole row as a single {@link ExcelRow} or Map parameter.
+     *
+     * @return Column headers
+     */
+    String[] columns() default {};
+
+    /**
+     * Only rows carrying at least one of these tags are run; empty for all rows
+     *
+     * @return Tags, compared ignoring case
+     */
+    String[] tags() default {};
+
+    /**
+     * Columns holding the tags of a row; a cell may hold several tags separated by commas
+     *
+     * @return Column headers
+     */
+    String[] tagColumns() default {"Tags", "Categories 1", "Categories 2"};
+}
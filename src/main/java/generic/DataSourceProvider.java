@@ -0,0 +1,246 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.testng.annotations.DataProvider;
+
+/**
+ * TestNG data providers that stream the rows named by a test method's {@link DataSource}.
+ *
+ * Rows are read lazily from an Excel sheet (through {@link SheetCache}) or a CSV file and
+ * handed to TestNG one at a time, so a data-driven test starts with the first row instead of
+ * after the whole file is loaded. Rows are filtered by tag and their columns are converted to
+ * the parameter types of the test method: String, int, long, double, boolean, BigDecimal and
+ * enums, or the whole row as an {@link ExcelRow} or Map. {@link #PARALLEL_ROWS} runs the rows
+ * concurrently, on TestNG's data provider threads ("data-provider-thread-count" in the suite).
+ * Each row is reported and timed as its own test, named after its parameters
+ * (see {@link ExtentReportManager#testName}). Configured through:
+ *
+ *   data.source.file=test cases/sample_test_cases.csv   (file of a DataSource without one)
+ *   data.tags=                                          (if set, rows must also carry one of these tags)
+ */
+public final class DataSourceProvider {
+    private static final Logger logger = LoggerUtil.getLogger(DataSourceProvider.class);
+
+    /** Name of the sequential provider */
+    public static final String ROWS = "rows";
+    /** Name of the parallel provider */
+    public static final String PARALLEL_ROWS = "parallelRows";
+
+    /**
+     * Rows of the test method's data source, run one after the other
+     *
+     * @param method Test method, injected by TestNG
+     * @return Lazy parameter sets, one per row
+     * @throws IOException If the data source cannot be read
+     */
+    @DataProvider(name = ROWS)
+    public static Iterator<Object[]> rows(Method method) throws IOException {
+        return open(method);
+    }
+
+    /**
+     * Rows of the test method's data source, run concurrently
+     *
+     * @param method Test method, injected by TestNG
+     * @return Lazy parameter sets, one per row
+     * @throws IOException If the data source cannot be read
+     */
+    @DataProvider(name = PARALLEL_ROWS, parallel = true)
+    public static Iterator<Object[]> parallelRows(Method method) throws IOException {
+        return open(method);
+    }
+
+    /**
+     * Stream the rows of a method's data source as parameter sets
+     *
+     * @param method Test method
+     * @return Lazy parameter sets
+     * @throws IOException If the data source cannot be read
+     * @throws IllegalStateException If the method has no DataSource annotation
+     */
+    public static Iterator<Object[]> open(Method method) throws IOException {
+        DataSource source = method.getAnnotation(DataSource.class);
+        if (source == null) {
+            throw new IllegalStateException("Test method " + method.getName() + " has no @DataSource annotation");
+        }
+        String file = source.file().isEmpty()
+            ? Config.get("data.source.file", "test cases/sample_test_cases.csv")
+            : source.file();
+        String path = new File(file).isAbsolute() ? file : new File(System.getProperty("user.dir"), file).getPath();
+        Binder binder = new Binder(method, source.columns(), file);
+        Stream<ExcelRow> rows = path.toLowerCase(Locale.ROOT).endsWith(".csv")
+            ? CsvStreamReader.stream(path)
+            : ExcelUtility.streamExcelSheet(path, source.sheet().isEmpty() ? null : source.sheet());
+
+        Set<String> tags = lowerCase(Arrays.asList(source.tags()));
+        Set<String> runTags = lowerCase(Config.getList("data.tags"));
+        Iterator<ExcelRow> filtered = rows
+            .filter(row -> matches(row, source.tagColumns(), tags) && matches(row, source.tagColumns(), runTags))
+            .iterator();
+        logger.info("📄 Streaming test data for {} from {}", method.getName(), file);
+        return new RowIterator(rows, filtered, binder, method.getName());
+    }
+
+    /**
+     * Check whether a row carries one of the wanted tags
+     *
+     * @param row Row
+     * @param tagColumns Columns holding tags
+     * @param wanted Wanted tags in lower case; empty matches every row
+     * @return true if the row should run
+     */
+    private static boolean matches(ExcelRow row, String[] tagColumns, Set<String> wanted) {
+        if (wanted.isEmpty()) {
+            return true;
+        }
+        for (String column : tagColumns) {
+            String cell = row.get(column);
+            if (cell != null && !Collections.disjoint(wanted, lowerCase(Arrays.asList(cell.split(","))))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> lowerCase(List<String> values) {
+        return values.stream()
+            .map(value -> value.trim().toLowerCase(Locale.ROOT))
+            .filter(value -> !value.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Hands out the bound rows and closes the source once the last row is taken. TestNG may
+     * pull from it on several threads for a parallel provider, so access is synchronized.
+     */
+    private static final class RowIterator implements Iterator<Object[]> {
+        private final Stream<ExcelRow> source;
+        private final Iterator<ExcelRow> rows;
+        private final Binder binder;
+        private final String testName;
+        private int count;
+        private boolean closed;
+
+        private RowIterator(Stream<ExcelRow> source, Iterator<ExcelRow> rows, Binder binder, String testName) {
+            this.source = source;
+            this.rows = rows;
+            this.binder = binder;
+            this.testName = testName;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (rows.hasNext()) {
+                return true;
+            }
+            closed = true;
+            source.close();
+            logger.info("📄 {} data rows read for {}", count, testName);
+            return false;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            count++;
+            return binder.bind(rows.next());
+        }
+    }
+
+    /**
+     * Converts the cells of a row to the parameter types of the test method
+     */
+    private static final class Binder {
+        private final Class<?>[] types;
+        private final String[] columns;
+        private final String file;
+
+        private Binder(Method method, String[] columns, String file) {
+            this.types = method.getParameterTypes();
+            this.columns = columns;
+            this.file = file;
+            boolean wholeRow = columns.length == 0 && types.length == 1
+                && (types[0] == ExcelRow.class || types[0] == Map.class);
+            if (!wholeRow && (types.length == 0 || columns.length != types.length)) {
+                throw new IllegalStateException("@DataSource of " + method.getName() + " names " + columns.length
+                    + " columns for " + types.length + " parameters");
+            }
+        }
+
+        private Object[] bind(ExcelRow row) {
+            if (columns.length == 0) {
+                return new Object[] { types[0] == ExcelRow.class ? row : row.toMap() };
+            }
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                String cell = row.get(columns[i]);
+                if (cell == null) {
+                    throw new IllegalStateException("Column '" + columns[i] + "' not found in " + file
+                        + "; columns are " + row.getHeaders());
+                }
+                try {
+                    values[i] = convert(cell.trim(), types[i]);
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    throw new IllegalArgumentException("Row " + row.getRowNumber() + " of " + file + ": column '"
+                        + columns[i] + "' value '" + cell + "' is not a valid " + types[i].getSimpleName(), e);
+                }
+            }
+            return values;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static Object convert(String cell, Class<?> type) {
+            if (type == String.class || type == Object.class) {
+                return cell;
+            }
+            if (cell.isEmpty()) {
+                if (type.isPrimitive()) {
+                    throw new IllegalArgumentException("empty cell");
+                }
+                return null;
+            }
+            if (type == int.class || type == Integer.class) {
+                return new BigDecimal(cell).intValueExact();
+            }
+            if (type == long.class || type == Long.class) {
+                return new BigDecimal(cell).longValueExact();
+            }
+            if (type == double.class || type == Double.class) {
+                return Double.valueOf(cell);
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                if (!cell.equalsIgnoreCase("true") && !cell.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException("expected true or false");
+                }
+                return Boolean.valueOf(cell);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(cell);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, cell.toUpperCase(Locale.ROOT).replace(' ', '_'));
+            }
+            throw new IllegalArgumentException("unsupported parameter type");
+        }
+    }
+}
@@ -9,8 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -33,58 +31,29 @@ public class EmailReporter {
     private final boolean enableTLS;
     
     public EmailReporter() {
-        Properties config = loadConfiguration();
-        this.smtpHost = config.getProperty("email.smtp.host", "smtp.gmail.com");
-        this.smtpPort = Integer.parseInt(config.getProperty("email.smtp.port", "587"));
-        this.username = config.getProperty("email.username");
-        this.password = config.getProperty("email.password");
-        this.enableSSL = Boolean.parseBoolean(config.getProperty("email.smtp.ssl", "false"));
-        this.enableTLS = Boolean.parseBoolean(config.getProperty("email.smtp.tls", "true"));
+        // email.* settings fall back to the older gmail.* / team.email names
+        this.smtpHost = Config.get("email.smtp.host", "smtp.gmail.com");
+        this.smtpPort = Config.getInt("email.smtp.port", 587);
+        this.username = Config.get("email.username", Config.get("gmail.username"));
+        this.password = Config.get("email.password", Config.get("gmail.password"));
+        this.enableSSL = Config.getBoolean("email.smtp.ssl", false);
+        this.enableTLS = Config.getBoolean("email.smtp.tls", true);
         
-        String recipientList = config.getProperty("email.recipients");
+        String recipientList = Config.get("email.recipients", Config.get("team.email"));
         if (recipientList == null || recipientList.trim().isEmpty()) {
             throw new RuntimeException("Email recipients not configured");
         }
         this.recipients = Arrays.asList(recipientList.split(",\\s*"));
         
+        logger.info("Email configuration loaded successfully");
+        logger.info("SMTP Host: {}", smtpHost);
+        logger.info("SMTP Port: {}", smtpPort);
+        logger.info("Username: {}", username);
+        logger.info("Recipients count: {}", recipients.size());
+        
         validateConfiguration();
     }
     
-    private Properties loadConfiguration() {
-        Properties props = new Properties();
-        try {
-            File configFile = new File("property/test_data.properties");
-            if (!configFile.exists()) {
-                throw new RuntimeException("Configuration file not found: " + configFile.getAbsolutePath());
-            }
-            
-            try (FileInputStream fis = new FileInputStream(configFile)) {
-                props.load(fis);
-            }
-            
-            // Map old property names to new ones for backward compatibility
-            if (props.getProperty("email.username") == null && props.getProperty("gmail.username") != null) {
-                props.setProperty("email.username", props.getProperty("gmail.username"));
-            }
-            if (props.getProperty("email.password") == null && props.getProperty("gmail.password") != null) {
-                props.setProperty("email.password", props.getProperty("gmail.password"));
-            }
-            if (props.getProperty("email.recipients") == null && props.getProperty("team.email") != null) {
-                props.setProperty("email.recipients", props.getProperty("team.email"));
-            }
-            
-            logger.info("Email configuration loaded successfully");
-            logger.info("SMTP Host: {}", props.getProperty("email.smtp.host", "smtp.gmail.com"));
-            logger.info("SMTP Port: {}", props.getProperty("email.smtp.port", "587"));
-            logger.info("Username: {}", props.getProperty("email.username"));
-            logger.info("Recipients count: {}", props.getProperty("email.recipients", "").split(",\\s*").length);
-            
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load email configuration", e);
-        }
-        return props;
-    }
-    
     private void validateConfiguration() {
         if (username == null || username.trim().isEmpty()) {
             throw new RuntimeException("Email username not configured");
@@ -0,0 +1,96 @@
+package generic;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One data row of a sheet read by {@link ExcelStreamReader}.
+ *
+ * All rows of a sheet share one header index, so a row only holds its cell values.
+ */
+public final class ExcelRow {
+    private final Map<String, Integer> header;
+    private final String[] values;
+    private final int rowNumber;
+
+    ExcelRow(Map<String, Integer> header, String[] values, int rowNumber) {
+        this.header = header;
+        this.values = values;
+        this.rowNumber = rowNumber;
+    }
+
+    /**
+     * Get a cell by column header
+     *
+     * @param column Column header
+     * @return Cell value, "" for an empty cell, or null if the sheet has no such column
+     */
+    public String get(String column) {
+        Integer index = header.get(column);
+        return index == null ? null : get(index);
+    }
+
+    /**
+     * Get a cell by column position
+     *
+     * @param index Zero-based column index
+     * @return Cell value, "" for an empty cell
+     */
+    public String get(int index) {
+        String value = values[index];
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Get the number of columns of the row
+     *
+     * @return Number of columns, the same for all rows of a sheet
+     */
+    public int width() {
+        return values.length;
+    }
+
+    /**
+     * Get the column headers of the sheet
+     *
+     * @return Headers in column order
+     */
+    public List<String> getHeaders() {
+        return List.copyOf(header.keySet());
+    }
+
+    /**
+     * Get the row number in the sheet
+     *
+     * @return Zero-based row number, the header being row 0
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Get the shared header index of the sheet
+     *
+     * @return Column positions by header
+     */
+    Map<String, Integer> header() {
+        return header;
+    }
+
+    /**
+     * Copy the row into a map keyed by column header
+     *
+     * @return Map in column order
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        header.forEach((column, index) -> map.put(column, get(index)));
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "Row " + rowNumber + " " + toMap();
+    }
+}
@@ -0,0 +1,302 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Streaming reader for .xlsx sheets built on POI's event (SAX) API.
+ *
+ * The sheet XML is parsed on a background thread that hands rows to the caller through a
+ * small bounded queue, so only a few rows are in memory at any time whatever the size of the
+ * sheet. The first row is the header; every later row with at least one non-empty cell is
+ * returned as an {@link ExcelRow} sharing the header index. Cells are formatted as Excel shows
+ * them. Close the reader, or the stream from {@link #stream(String, String)}, when done.
+ */
+public final class ExcelStreamReader implements Iterator<ExcelRow>, AutoCloseable {
+    private static final Logger logger = LoggerUtil.getLogger(ExcelStreamReader.class);
+
+    private static final int QUEUE_SIZE = 256;
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final OPCPackage pkg;
+    private final String sheetName;
+    private volatile boolean closed;
+    private Object next;
+
+    /**
+     * Open a sheet for streaming
+     *
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @throws IOException If the file cannot be opened
+     * @throws IllegalArgumentException If the sheet does not exist
+     */
+    public ExcelStreamReader(String filePath, String sheetName) throws IOException {
+        try {
+            this.pkg = OPCPackage.open(new File(filePath), PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new IOException("Cannot open Excel file " + filePath + ": " + e.getMessage(), e);
+        }
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            InputStream sheet = null;
+            String found = null;
+            while (sheets.hasNext() && sheet == null) {
+                InputStream candidate = sheets.next();
+                if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                    sheet = candidate;
+                    found = sheets.getSheetName();
+                } else {
+                    candidate.close();
+                }
+            }
+            if (sheet == null) {
+                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in the Excel file");
+            }
+            this.sheetName = found;
+            InputStream sheetData = sheet;
+            Thread parser = new Thread(() -> parse(sheetData, styles, strings), "excel-reader-" + found);
+            parser.setDaemon(true);
+            parser.start();
+        } catch (IOException | RuntimeException e) {
+            pkg.revert();
+            throw e;
+        } catch (Exception e) {
+            pkg.revert();
+            throw new IOException("Cannot read Excel file " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream the data rows of a sheet. The stream must be closed, e.g. with try-with-resources.
+     *
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Lazy stream of rows
+     * @throws IOException If the file cannot be opened
+     */
+    public static Stream<ExcelRow> stream(String filePath, String sheetName) throws IOException {
+        ExcelStreamReader reader = new ExcelStreamReader(filePath, sheetName);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(reader::close);
+    }
+
+    /**
+     * List the sheet names of a workbook without parsing any sheet
+     *
+     * @param filePath Path to the Excel file
+     * @return Sheet names in workbook order
+     * @throws IOException If the file cannot be read
+     */
+    public static List<String> sheetNames(String filePath) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(new File(filePath), PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new IOException("Cannot open Excel file " + filePath + ": " + e.getMessage(), e);
+        }
+        try {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            List<String> names = new ArrayList<>();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            return names;
+        } catch (OpenXML4JException e) {
+            throw new IOException("Cannot read Excel file " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Get the name of the sheet being read
+     *
+     * @return Sheet name
+     */
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                return false;
+            }
+        }
+        if (next instanceof RuntimeException) {
+            RuntimeException failure = (RuntimeException) next;
+            next = END;
+            throw failure;
+        }
+        return next != END;
+    }
+
+    @Override
+    public ExcelRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ExcelRow row = (ExcelRow) next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stop parsing and release the workbook
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+        next = END;
+    }
+
+    /**
+     * Parse the sheet XML and queue its rows; runs on the reader thread
+     */
+    private void parse(InputStream sheet, StylesTable styles, ReadOnlySharedStringsTable strings) {
+        try (InputStream in = sheet) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, new RowCollector(), new DataFormatter(), false));
+            parser.parse(new InputSource(in));
+            put(END);
+        } catch (Exception e) {
+            if (closed) {
+                logger.debug("Stopped reading sheet {} early", sheetName);
+            } else {
+                put(new IllegalStateException("Failed to read sheet '" + sheetName + "': " + e.getMessage(), e));
+            }
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Hand an item to the consumer, giving up once the reader is closed
+     *
+     * @param item Row, END or a failure
+     * @return false if the reader was closed first
+     */
+    private boolean put(Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Collects the cells of the current row and queues the finished row
+     */
+    private final class RowCollector implements SheetContentsHandler {
+        private Map<String, Integer> header;
+        private final List<String> headerCells = new ArrayList<>();
+        private String[] values;
+        private int column;
+        private boolean hasData;
+
+        @Override
+        public void startRow(int rowNum) {
+            if (closed) {
+                throw new Stopped();
+            }
+            column = -1;
+            hasData = false;
+            if (header != null) {
+                values = new String[headerCells.size()];
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+            String value = formattedValue == null ? "" : formattedValue;
+            if (header == null) {
+                while (headerCells.size() < column) {
+                    headerCells.add("");
+                }
+                headerCells.add(value.trim());
+            } else if (column < values.length) {
+                values[column] = value;
+                hasData |= !value.isEmpty();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (header == null) {
+                Map<String, Integer> index = new LinkedHashMap<>();
+                for (int i = 0; i < headerCells.size(); i++) {
+                    index.put(headerCells.get(i), i);
+                }
+                header = Collections.unmodifiableMap(index);
+            } else if (hasData && !put(new ExcelRow(header, values, rowNum))) {
+                throw new Stopped();
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // Page headers and footers are not data
+        }
+    }
+
+    /**
+     * Unwinds the parser once the consumer has closed the reader
+     */
+    private static final class Stopped extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private Stopped() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,17 +1,15 @@
 package generic;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Utility class for reading data from Excel files
+ * Sheets are read with the streaming {@link ExcelStreamReader}, never as a whole workbook,
+ * and the parsed rows are reused through {@link SheetCache} while the workbook is unchanged
  */
 public class ExcelUtility {
     
@@ -25,91 +23,9 @@ public class ExcelUtility {
      * @throws IOException If file cannot be read
      */
     public static List<Map<String, String>> readExcelSheet(String filePath, String sheetName) throws IOException {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in the Excel file");
-            }
-            
-            // Get header row
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                throw new IllegalArgumentException("Header row not found in sheet '" + sheetName + "'");
-            }
-            
-            // Extract column headers
-            List<String> headers = new ArrayList<>();
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell cell = headerRow.getCell(i);
-                headers.add(cell == null ? "" : cell.toString().trim());
-            }
-            
-            // Extract data rows
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-                
-                Map<String, String> rowData = new HashMap<>();
-                boolean hasData = false;
-                
-                for (int j = 0; j < headers.size(); j++) {
-                    Cell cell = row.getCell(j);
-                    String value = "";
-                    
-                    if (cell != null) {
-                        switch (cell.getCellType()) {
-                            case STRING:
-                                value = cell.getStringCellValue();
-                                break;
-                            case NUMERIC:
-                                if (DateUtil.isCellDateFormatted(cell)) {
-                                    value = cell.getDateCellValue().toString();
-                                } else {
-                                    value = String.valueOf(cell.getNumericCellValue());
-                                    // Remove .0 from integer values
-                                    if (value.endsWith(".0")) {
-                                        value = value.substring(0, value.length() - 2);
-                                    }
-                                }
-                                break;
-                            case BOOLEAN:
-                                value = String.valueOf(cell.getBooleanCellValue());
-                                break;
-                            case FORMULA:
-                                try {
-                                    value = String.valueOf(cell.getNumericCellValue());
-                                } catch (Exception e) {
-                                    try {
-                                        value = cell.getStringCellValue();
-                                    } catch (Exception ex) {
-                                        value = cell.getCellFormula();
-                                    }
-                                }
-                                break;
-                            default:
-                                value = "";
-                        }
-                    }
-                    
-                    if (!value.isEmpty()) {
-                        hasData = true;
-                    }
-                    
-                    rowData.put(headers.get(j), value);
-                }
-                
-                // Only add rows that have data
-                if (hasData) {
-                    data.add(rowData);
-                }
-            }
+        try (Stream<ExcelRow> rows = streamExcelSheet(filePath, sheetName)) {
+            return rows.map(ExcelRow::toMap).collect(Collectors.toList());
         }
-        
-        return data;
     }
     
     /**
@@ -120,12 +36,21 @@ public class ExcelUtility {
      * @throws IOException If file cannot be read
      */
     public static List<Map<String, String>> readExcelSheet(String filePath) throws IOException {
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            String sheetName = workbook.getSheetName(0);
-            return readExcelSheet(filePath, sheetName);
-        }
+        return readExcelSheet(filePath, null);
+    }
+    
+    /**
+     * Stream the data rows of an Excel sheet lazily, in constant memory.
+     * Served from the binary sheet cache when the workbook has not changed since the last read.
+     * The stream must be closed, e.g. with try-with-resources.
+     * 
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet to read, or null for the first sheet
+     * @return Stream of rows sharing one header index
+     * @throws IOException If file cannot be read
+     */
+    public static Stream<ExcelRow> streamExcelSheet(String filePath, String sheetName) throws IOException {
+        return SheetCache.stream(filePath, sheetName);
     }
     
     /**
@@ -136,16 +61,6 @@ public class ExcelUtility {
      * @throws IOException If file cannot be read
      */
     public static List<String> getSheetNames(String filePath) throws IOException {
-        List<String> sheetNames = new ArrayList<>();
-        
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-                sheetNames.add(workbook.getSheetName(i));
-            }
-        }
-        
-        return sheetNames;
+        return ExcelStreamReader.sheetNames(filePath);
     }
 }
@@ -5,29 +5,71 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
+import com.aventstack.extentreports.Status;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.testng.ITestResult;
 
 /**
  * Centralized manager for ExtentReports configuration and test management
  * This class provides a singleton instance of ExtentReports and manages ExtentTest objects
+ * The test registry is safe for concurrent use by parallel TestNG worker threads
+ * 
+ * With "extent.bounded.enabled=true" tests are spread over part reports of
+ * "extent.bounded.part.size" tests each. A part is written to disk and dropped from memory
+ * as soon as all of its tests are complete, and the report file becomes an index page that
+ * stitches the parts together, so heap use does not grow with the suite size.
  */
 public class ExtentReportManager {
-    private static ExtentReports extent;
-    private static Map<String, ExtentTest> testMap = new HashMap<>();
+    private static final Logger logger = LoggerUtil.getLogger(ExtentReportManager.class);
+    
+    private static final String REPORT_DIR = System.getProperty("user.dir") + "/test-output/reports";
+    private static final String RUN_NAME = "TestReport_" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+    private static final boolean BOUNDED =
+        Boolean.parseBoolean(Test_DataByPropertyFILE.getData("extent.bounded.enabled", "false"));
+    private static final int PART_SIZE =
+        Math.max(1, Integer.parseInt(Test_DataByPropertyFILE.getData("extent.bounded.part.size", "50")));
+    
+    private static volatile ExtentReports extent;
+    private static final Map<String, ExtentTest> testMap = new ConcurrentHashMap<>();
     private static ThreadLocal<ExtentTest> currentTest = new ThreadLocal<>();
     
+    // Bounded mode: part owning each live test, and every part of the run in order
+    private static final Map<ExtentTest, ReportPart> owners = new ConcurrentHashMap<>();
+    private static final List<ReportPart> parts = new CopyOnWriteArrayList<>();
+    private static ReportPart currentPart;
+    
     /**
      * Get the singleton instance of ExtentReports
+     * In bounded mode this is the part report new tests are currently added to.
      * 
      * @return ExtentReports instance
      */
-    public static synchronized ExtentReports getInstance() {
+    public static ExtentReports getInstance() {
+        if (BOUNDED) {
+            synchronized (ExtentReportManager.class) {
+                return openPart().reports;
+            }
+        }
         if (extent == null) {
-            createInstance();
+            synchronized (ExtentReportManager.class) {
+                if (extent == null) {
+                    createInstance();
+                }
+            }
         }
         return extent;
     }
@@ -36,20 +78,26 @@ public class ExtentReportManager {
      * Create a new instance of ExtentReports
      */
     private static void createInstance() {
-        extent = new ExtentReports();
+        // Published only once fully configured, see getInstance
+        extent = createReports(REPORT_DIR + "/" + RUN_NAME + ".html");
+    }
+    
+    /**
+     * Create and configure an ExtentReports instance writing to the given file
+     * 
+     * @param reportName Path of the HTML report
+     * @return Configured ExtentReports
+     */
+    static ExtentReports createReports(String reportName) {
+        ExtentReports reports = new ExtentReports();
         
         // Create reports directory if it doesn't exist
-        String reportPath = System.getProperty("user.dir") + "/test-output/reports";
-        new File(reportPath).mkdirs();
+        new File(reportName).getParentFile().mkdirs();
         
         // Create screenshots directory if it doesn't exist
         String screenshotPath = System.getProperty("user.dir") + "/test-output/screenshots";
         new File(screenshotPath).mkdirs();
         
-        // Create timestamp for unique report name
-        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-        String reportName = reportPath + "/TestReport_" + timestamp + ".html";
-        
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportName);
         
         // Configure the reporter
@@ -58,15 +106,16 @@ public class ExtentReportManager {
         sparkReporter.config().setReportName("Corpstack Automation Test Results");
         sparkReporter.config().setTimeStampFormat("EEEE, MMMM dd, yyyy, hh:mm a '('zzz')'");
         
-        extent.attachReporter(sparkReporter);
+        reports.attachReporter(sparkReporter);
         
         // Add system information
-        extent.setSystemInfo("OS", System.getProperty("os.name"));
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("User Name", System.getProperty("user.name"));
-        extent.setSystemInfo("Browser", "Chrome");
-        extent.setSystemInfo("Environment", "PROD");
-        extent.setSystemInfo("Application", "Corpstack Portal");
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("User Name", System.getProperty("user.name"));
+        reports.setSystemInfo("Browser", "Chrome");
+        reports.setSystemInfo("Environment", "PROD");
+        reports.setSystemInfo("Application", "Corpstack Portal");
+        return reports;
     }
     
     /**
@@ -77,19 +126,157 @@ public class ExtentReportManager {
      * @param description The description of the test
      * @return ExtentTest object
      */
-    public static synchronized ExtentTest getTest(String className, String testName, String description) {
+    public static ExtentTest getTest(String className, String testName, String description) {
         String testKey = className + "." + testName;
-        ExtentTest test = testMap.get(testKey);
-        
-        if (test == null) {
-            test = getInstance().createTest(testName, description);
-            testMap.put(testKey, test);
-        }
+        ExtentTest test = testMap.computeIfAbsent(testKey, key -> createTest(testName, description));
         
         currentTest.set(test);
         return test;
     }
     
+ 
+    /**
+     * Report name of a test invocation: the method name, followed by the parameters of a
+     * data-driven row so that every row, also when rows run in parallel, gets its own test
+     * 
+     * @param result The test result
+     * @return Test name
+     */
+    public static String testName(ITestResult result) {
+        String methodName = result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        return parameters.length == 0 ? methodName : methodName + " " + Arrays.toString(parameters);
+    }
+    
+    /**
+     * Create a test in the report, or in the current part in bounded mode
+     * 
+     * @param testName The name of the test
+     * @param description The description of the test
+     * @return ExtentTest object
+     */
+    private static ExtentTest createTest(String testName, String description) {
+        if (!BOUNDED) {
+            return getInstance().createTest(testName, description);
+        }
+        synchronized (ExtentReportManager.class) {
+            ReportPart part = openPart();
+            ExtentTest test = part.reports.createTest(testName, description);
+            part.created++;
+            owners.put(test, part);
+            return test;
+        }
+    }
+    
+    /**
+     * Mark a test as complete once its final result has been logged. In bounded mode its
+     * part is written to disk and released when this was the last open test of a full part.
+     * Runs after the events already posted to the {@link ReportBus}.
+     * 
+     * @param className The name of the test class
+     * @param testName The name of the test method
+     */
+    public static void completeTest(String className, String testName) {
+        if (!BOUNDED) {
+            return;
+        }
+        String testKey = className + "." + testName;
+        ReportBus.post(() -> {
+            ExtentTest test = testMap.remove(testKey);
+            if (test == null) {
+                return;
+            }
+            synchronized (ExtentReportManager.class) {
+                ReportPart part = owners.remove(test);
+                if (part == null) {
+                    return;
+                }
+                part.completed.add(new String[] { test.getModel().getName(), String.valueOf(test.getStatus()) });
+                if (part != currentPart && part.completed.size() >= part.created) {
+                    writePart(part);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Get the part new tests go to, starting a new one when the current part is full;
+     * caller holds the class lock
+     * 
+     * @return Open report part
+     */
+    private static ReportPart openPart() {
+        if (currentPart == null || currentPart.created >= PART_SIZE) {
+            ReportPart previous = currentPart;
+            String file = String.format("%s/%s/part-%03d.html", REPORT_DIR, RUN_NAME, parts.size() + 1);
+            currentPart = new ReportPart(file, createReports(file));
+            parts.add(currentPart);
+            // Tests of the previous part may all have completed while it was still open
+            if (previous != null && previous.completed.size() >= previous.created) {
+                writePart(previous);
+            }
+        }
+        return currentPart;
+    }
+    
+    /**
+     * Write a part report, and drop its test graph from memory once all of its tests have
+     * completed; a part with running tests is kept so that their later events are not lost.
+     * Caller holds the class lock.
+     * 
+     * @param part Part to write
+     */
+    private static void writePart(ReportPart part) {
+        if (part.reports == null) {
+            return;
+        }
+        part.reports.flush();
+        if (part != currentPart && part.completed.size() >= part.created) {
+            part.reports = null;
+            logger.debug("Report part {} written and released", part.file);
+        }
+    }
+    
+    /**
+     * Write the index page that links all part reports with their test results
+     */
+    private static void writeIndex() {
+        int passed = 0;
+        int failed = 0;
+        int other = 0;
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < parts.size(); i++) {
+            ReportPart part = parts.get(i);
+            String link = RUN_NAME + "/" + new File(part.file).getName();
+            rows.append("<h3><a href=\"").append(link).append("\">Part ").append(i + 1).append("</a></h3><ul>");
+            for (String[] result : new ArrayList<>(part.completed)) {
+                String status = result[1];
+                if (Status.PASS.toString().equals(status)) {
+                    passed++;
+                } else if (Status.FAIL.toString().equals(status)) {
+                    failed++;
+                } else {
+                    other++;
+                }
+                rows.append("<li>").append(escape(result[0])).append(" - ").append(escape(status)).append("</li>");
+            }
+            rows.append("</ul>");
+        }
+        String html = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Corpstack Test Report</title></head>"
+            + "<body style=\"font-family: Arial, sans-serif;\"><h2>Corpstack Automation Test Results</h2>"
+            + "<p>Passed: " + passed + " | Failed: " + failed + " | Other: " + other + "</p>"
+            + rows + "</body></html>";
+        try {
+            Files.write(new File(REPORT_DIR, RUN_NAME + ".html").toPath(), html.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.error("❌ Failed to write report index: {}", e.getMessage(), e);
+        }
+    }
+    
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+    
     /**
      * Get the current ExtentTest object
      * 
@@ -116,11 +303,40 @@ public class ExtentReportManager {
     }
     
     /**
-     * Flush the ExtentReports instance
+     * Apply all pending report events and flush the ExtentReports instance
      */
     public static void flush() {
-        if (extent != null) {
-            extent.flush();
+        ReportBus.drain(30_000);
+        if (BOUNDED) {
+            synchronized (ExtentReportManager.class) {
+                for (ReportPart part : parts) {
+                    writePart(part);
+                }
+                writeIndex();
+            }
+            return;
+        }
+        ExtentReports reports = extent;
+        if (reports != null) {
+            synchronized (ExtentReportManager.class) {
+                reports.flush();
+            }
+        }
+    }
+    
+    /**
+     * Part report of the bounded mode
+     */
+    private static final class ReportPart {
+        private final String file;
+        private ExtentReports reports;
+        private int created;
+        // Name and status of each completed test; kept for the index after the part is released
+        private final List<String[]> completed = new CopyOnWriteArrayList<>();
+        
+        private ReportPart(String file, ExtentReports reports) {
+            this.file = file;
+            this.reports = reports;
         }
     }
 }
@@ -17,8 +17,6 @@ import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.Transport;
 import jakarta.mail.MessagingException;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -44,17 +42,15 @@ public class GmailUtility {
     }
 
     private void loadCredentials() {
-        Properties props = new Properties();
-        try {
-            props.load(new FileInputStream("property/test_data.properties"));
-            this.username = props.getProperty("gmail.username");
-            this.password = props.getProperty("gmail.password").replaceAll("\\s+", "");
-            logger.info("Loaded Gmail credentials for user: {}", username);
-            logger.info("App password length: {}", password.length());
-        } catch (IOException e) {
-            logger.error("Failed to load Gmail credentials from test_data.properties", e);
-            throw new RuntimeException("Failed to load Gmail credentials from test_data.properties", e);
+        this.username = Config.get("gmail.username");
+        String appPassword = Config.get("gmail.password");
+        if (username == null || appPassword == null) {
+            logger.error("Gmail credentials not configured in test_data.properties");
+            throw new RuntimeException("Failed to load Gmail credentials from test_data.properties");
         }
+        this.password = appPassword.replaceAll("\\s+", "");
+        logger.info("Loaded Gmail credentials for user: {}", username);
+        logger.info("App password length: {}", password.length());
     }
 
     /**
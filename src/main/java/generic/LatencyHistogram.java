@@ -0,0 +1,108 @@
+package generic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory latency histogram with log-scaled buckets, in the spirit of HdrHistogram.
+ *
+ * Values are recorded in microseconds into buckets that grow by 5%, so every percentile is
+ * exact to within 5% whatever the number of samples, from 1 µs up to about 5 minutes; longer
+ * values land in the last bucket. Recording is lock-free and safe from any thread.
+ */
+public final class LatencyHistogram {
+    private static final double GROWTH = 1.05;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 400;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one latency
+     *
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(bucket(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Get the number of recorded values
+     *
+     * @return Sample count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the sum of all recorded values
+     *
+     * @return Total in milliseconds
+     */
+    public double getTotalMillis() {
+        return totalMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Get the value below which the given share of the samples fall
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds, or 0 without samples
+     */
+    public double percentileMillis(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMicros.get()) / 1_000.0;
+            }
+        }
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Summarize the histogram as count, total, mean, p50, p90, p95, p99 and max
+     *
+     * @return Summary values in milliseconds
+     */
+    public Map<String, Object> summary() {
+        long total = count.get();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", total);
+        summary.put("totalMs", round(getTotalMillis()));
+        summary.put("meanMs", round(total == 0 ? 0 : getTotalMillis() / total));
+        summary.put("p50Ms", round(percentileMillis(50)));
+        summary.put("p90Ms", round(percentileMillis(90)));
+        summary.put("p95Ms", round(percentileMillis(95)));
+        summary.put("p99Ms", round(percentileMillis(99)));
+        summary.put("maxMs", round(maxMicros.get() / 1_000.0));
+        return summary;
+    }
+
+    private static int bucket(long micros) {
+        return (int) Math.min(BUCKETS - 1, Math.log(micros) / LOG_GROWTH);
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) Math.ceil(Math.pow(GROWTH, bucket + 1));
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+}
@@ -8,15 +8,7 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
-import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.OutputType;
-import java.io.File;
-import java.io.IOException;
-import org.apache.commons.io.FileUtils;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 
 public class ListenerClass implements ITestListener
 {
@@ -38,6 +30,45 @@ public class ListenerClass implements ITestListener
 		return false;
 	}
 
+	/**
+	 * Mark the report entry of a finished test as complete. Tests extending BaseTest
+	 * still log from @AfterMethod, so BaseTest.handleTestResult completes those.
+	 * 
+	 * @param result The final test result
+	 */
+	private void completeTest(ITestResult result) {
+		if (!(result.getInstance() instanceof BaseTest)) {
+			ExtentReportManager.completeTest(result.getTestClass().getName(), ExtentReportManager.testName(result));
+		}
+	}
+
+	/**
+	 * Get the number of the retry that follows a failed attempt
+	 * 
+	 * @param result The failed test result
+	 * @return Retry attempt number, starting at 1
+	 */
+	private int retryAttempt(ITestResult result) {
+		Object retryCount = result.getAttribute("RETRY_COUNT");
+		return retryCount instanceof Integer ? (Integer) retryCount : 1;
+	}
+
+	/**
+	 * Get the driver owned by the failing test instance on the current thread.
+	 * The test context is shared by every class of a &lt;test&gt; block, so it
+	 * cannot hold the driver once classes run in parallel.
+	 * 
+	 * @param result The test result
+	 * @return WebDriver of the test instance, or null if there is none
+	 */
+	private WebDriver getDriver(ITestResult result) {
+		Object instance = result.getInstance();
+		if (instance instanceof BaseTest) {
+			return ((BaseTest) instance).getDriver();
+		}
+		return null;
+	}
+
 	@Override
 	public void onTestStart(ITestResult result)
 	{
@@ -48,8 +79,9 @@ public class ListenerClass implements ITestListener
 			description = "Test execution for " + methodName;
 		}
 		
-		ExtentTest extentTest = ExtentReportManager.getTest(className, methodName, description);
-		extentTest.log(Status.INFO, "Test Started: " + methodName);
+		ExtentTest extentTest = ExtentReportManager.getTest(className, ExtentReportManager.testName(result), description);
+		ReportBus.log(extentTest, Status.INFO, "Test Started: " + methodName);
+		ResultJournal.testStarted(result);
 	}
 
 	@Override
@@ -63,18 +95,20 @@ public class ListenerClass implements ITestListener
 			if (description == null || description.isEmpty()) {
 				description = "Test execution for " + methodName;
 			}
-			test = ExtentReportManager.getTest(className, methodName, description);
+			test = ExtentReportManager.getTest(className, ExtentReportManager.testName(result), description);
 		}
 		
 		// Check if the test passed after retries
 		Object retryCountObj = result.getAttribute("RETRY_COUNT");
 		if (retryCountObj != null) {
 			int retryCount = (Integer) retryCountObj;
-			test.log(Status.PASS, MarkupHelper.createLabel("Test Passed after " + retryCount + " retry attempts: " + result.getMethod().getMethodName(), ExtentColor.GREEN));
+			ReportBus.log(test, Status.PASS, MarkupHelper.createLabel("Test Passed after " + retryCount + " retry attempts: " + result.getMethod().getMethodName(), ExtentColor.GREEN));
 			System.out.println("✅ Test passed after " + retryCount + " retry attempts: " + result.getMethod().getMethodName());
 		} else {
-			test.log(Status.PASS, MarkupHelper.createLabel("Test Passed: " + result.getMethod().getMethodName(), ExtentColor.GREEN));
+			ReportBus.log(test, Status.PASS, MarkupHelper.createLabel("Test Passed: " + result.getMethod().getMethodName(), ExtentColor.GREEN));
 		}
+		ResultJournal.testFinished(result);
+		completeTest(result);
 	}
 
 	@Override
@@ -88,7 +122,7 @@ public class ListenerClass implements ITestListener
 			if (description == null || description.isEmpty()) {
 				description = "Test execution for " + methodName;
 			}
-			test = ExtentReportManager.getTest(className, methodName, description);
+			test = ExtentReportManager.getTest(className, ExtentReportManager.testName(result), description);
 		}
 		
 		// Check if the test will be retried
@@ -96,31 +130,22 @@ public class ListenerClass implements ITestListener
 		
 		if (willBeRetried) {
 			// If the test will be retried, log it as a warning instead of a failure
-			test.log(Status.WARNING, MarkupHelper.createLabel("Test Failed but will be retried: " + result.getMethod().getMethodName(), ExtentColor.AMBER));
-			test.log(Status.WARNING, "Error: " + result.getThrowable());
+			ReportBus.log(test, Status.WARNING, MarkupHelper.createLabel("Test Failed but will be retried: " + result.getMethod().getMethodName(), ExtentColor.AMBER));
+			ReportBus.log(test, Status.WARNING, "Error: " + result.getThrowable());
 			System.out.println("⚠️ Test failed but will be retried: " + result.getMethod().getMethodName());
+			ResultJournal.retry(result, retryAttempt(result));
 		} else {
 			// If the test will not be retried, log it as a failure
-			test.log(Status.FAIL, MarkupHelper.createLabel("Test Failed: " + result.getMethod().getMethodName(), ExtentColor.RED));
-			test.log(Status.FAIL, "Error: " + result.getThrowable());
+			ReportBus.log(test, Status.FAIL, MarkupHelper.createLabel("Test Failed: " + result.getMethod().getMethodName(), ExtentColor.RED));
+			ReportBus.log(test, Status.FAIL, "Error: " + result.getThrowable());
+			ResultJournal.testFinished(result);
+			completeTest(result);
 		}
 		
-		// Take screenshot for both ExtentReports and Allure
-		if (result.getTestContext().getAttribute("driver") != null) {
-			WebDriver driver = (WebDriver) result.getTestContext().getAttribute("driver");
-			try {
-				// For ExtentReports
-				File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-				String screenshotPath = System.getProperty("user.dir") + "/test-output/screenshots/" + result.getMethod().getMethodName() + ".png";
-				FileUtils.copyFile(screenshot, new File(screenshotPath));
-				test.addScreenCaptureFromPath(screenshotPath);
-				
-				// For Allure
-				byte[] screenshotBytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-				Allure.getLifecycle().addAttachment("Test Failure Screenshot", "image/png", "png", screenshotBytes);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+		// One capture shared by ExtentReports, Allure and disk (reused if reportFail already took it)
+		WebDriver driver = getDriver(result);
+		if (driver != null) {
+			ScreenshotService.captureFailure(driver, result, test);
 		}
 	}
 
@@ -135,10 +160,18 @@ public class ListenerClass implements ITestListener
 			if (description == null || description.isEmpty()) {
 				description = "Test execution for " + methodName;
 			}
-			test = ExtentReportManager.getTest(className, methodName, description);
+			test = ExtentReportManager.getTest(className, ExtentReportManager.testName(result), description);
 		}
 		
-		test.log(Status.SKIP, MarkupHelper.createLabel("Test Skipped: " + result.getMethod().getMethodName(), ExtentColor.YELLOW));
+		ReportBus.log(test, Status.SKIP, MarkupHelper.createLabel("Test Skipped: " + result.getMethod().getMethodName(), ExtentColor.YELLOW));
+		if (result.wasRetried()) {
+			ResultJournal.retry(result, retryAttempt(result));
+		} else {
+			ResultJournal.testFinished(result);
+			// A skip from a failed configuration method never reaches BaseTest's @AfterMethod,
+			// so complete it here for every test; completing an entry twice is a no-op
+			ExtentReportManager.completeTest(result.getTestClass().getName(), ExtentReportManager.testName(result));
+		}
 	}
 
 	@Override
@@ -156,47 +189,8 @@ public class ListenerClass implements ITestListener
 
 	@Override
 	public void onFinish(ITestContext context) {
-		ExtentReportManager.flush();
-		
-		// Generate Allure report
-		try {
-			// Create a ProcessBuilder for better control over the process
-			ProcessBuilder processBuilder = new ProcessBuilder();
-			
-			// Set the working directory to the project root
-			processBuilder.directory(new File(System.getProperty("user.dir")));
-			
-			// Set up the command based on the OS
-			if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-				processBuilder.command("cmd.exe", "/c", "mvn", "allure:report");
-			} else {
-				processBuilder.command("sh", "-c", "mvn allure:report");
-			}
-			
-			// Redirect error stream to output stream
-			processBuilder.redirectErrorStream(true);
-			
-			// Start the process
-			Process process = processBuilder.start();
-			
-			// Read the output
-			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-				String line;
-				while ((line = reader.readLine()) != null) {
-					System.out.println(line);
-				}
-			}
-			
-			// Wait for the process to complete
-			int exitCode = process.waitFor();
-			if (exitCode == 0) {
-				System.out.println("Allure report generated successfully");
-			} else {
-				System.err.println("Failed to generate Allure report. Exit code: " + exitCode);
-			}
-		} catch (Exception e) {
-			System.err.println("Error generating Allure report: " + e.getMessage());
-			e.printStackTrace();
-		}
+		// The Extent report is flushed once per suite by ReportFlushListener
+		// and the Allure report is generated once per suite by AllureReportListener
+		ResultJournal.sync();
 	}
 }
@@ -0,0 +1,207 @@
+package generic;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.slf4j.Logger;
+
+/**
+ * Tracks in-flight XHR/fetch requests and navigations of a Chrome session through the
+ * DevTools Protocol.
+ *
+ * The Corpstack portal is an SPA, so document.readyState stays "complete" after client-side
+ * routing and there is no jQuery to query. This tracker listens to the raw Network domain
+ * events (not a versioned CDP binding, so it works with whatever Chrome version is installed)
+ * and lets a test continue as soon as the backend has answered. Main frame navigations,
+ * including history.pushState routing, are counted so element caches can tell when the
+ * page they were resolved on is gone (see {@link PageCacheDecorator}). A document
+ * navigation of the main frame also drops the requests still open on the old page, since
+ * they may never report completion.
+ */
+public class NetworkTracker {
+    private static final Logger logger = LoggerUtil.getLogger(NetworkTracker.class);
+
+    private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch");
+    private static final Map<WebDriver, NetworkTracker> trackers = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> unsupported = ConcurrentHashMap.newKeySet();
+
+    private final DevTools devTools;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile long lastActivity = System.currentTimeMillis();
+    private final AtomicLong navigations = new AtomicLong();
+
+    /**
+     * Enable the Network and Page domains and start listening to request and navigation events
+     *
+     * @param devTools DevTools connection of the session
+     */
+    private NetworkTracker(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        devTools.addListener(new Event<>("Network.requestWillBeSent", NetworkTracker::readParams), params -> {
+            if (TRACKED_TYPES.contains(String.valueOf(params.get("type")))) {
+                inFlight.add(String.valueOf(params.get("requestId")));
+                lastActivity = System.currentTimeMillis();
+            }
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", NetworkTracker::readParams), this::finished);
+        devTools.addListener(new Event<>("Network.loadingFailed", NetworkTracker::readParams), this::finished);
+
+        devTools.send(new Command<>("Page.enable", Map.of()));
+        devTools.addListener(new Event<>("Page.frameNavigated", NetworkTracker::readParams), params -> {
+            Object frame = params.get("frame");
+            // Child frames carry a parentId; only the main frame replaces the page
+            if (frame instanceof Map && ((Map<?, ?>) frame).get("parentId") == null) {
+                navigations.incrementAndGet();
+                // Requests of the old document may never report completion
+                if (!inFlight.isEmpty()) {
+                    logger.debug("Dropping {} in-flight requests of the previous page", inFlight.size());
+                    inFlight.clear();
+                    lastActivity = System.currentTimeMillis();
+                }
+            }
+        });
+        devTools.addListener(new Event<>("Page.navigatedWithinDocument", NetworkTracker::readParams),
+            params -> navigations.incrementAndGet());
+    }
+
+    /**
+     * Attach a tracker to the driver, or return the one already attached
+     *
+     * @param driver WebDriver instance
+     * @return NetworkTracker, or null if the driver does not support DevTools
+     */
+    public static NetworkTracker attach(WebDriver driver) {
+        driver = CommandTimer.unwrap(driver);
+        if (driver == null || !(driver instanceof HasDevTools) || unsupported.contains(driver)) {
+            return null;
+        }
+        NetworkTracker tracker = trackers.get(driver);
+        if (tracker != null) {
+            return tracker;
+        }
+        synchronized (trackers) {
+            tracker = trackers.get(driver);
+            if (tracker == null) {
+                try {
+                    tracker = new NetworkTracker(((HasDevTools) driver).getDevTools());
+                    trackers.put(driver, tracker);
+                    logger.debug("Network tracker attached");
+                } catch (Exception e) {
+                    logger.warn("⚠️ DevTools network tracking unavailable: {}", e.getMessage());
+                    unsupported.add(driver);
+                }
+            }
+        }
+        return tracker;
+    }
+
+    /**
+     * Get the tracker attached to the driver without attaching a new one
+     *
+     * @param driver WebDriver instance
+     * @return NetworkTracker, or null if none is attached
+     */
+    public static NetworkTracker get(WebDriver driver) {
+        return driver == null ? null : trackers.get(CommandTimer.unwrap(driver));
+    }
+
+    /**
+     * Stop tracking the driver, e.g. before it is quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        driver = CommandTimer.unwrap(driver);
+        unsupported.remove(driver);
+        NetworkTracker tracker = trackers.remove(driver);
+        if (tracker != null) {
+            try {
+                tracker.devTools.clearListeners();
+            } catch (Exception e) {
+                logger.debug("Ignoring failure while detaching network tracker: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Number of XHR/fetch requests that have not finished yet
+     *
+     * @return In-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of navigations seen since the tracker was attached; changes whenever the
+     * document is replaced or the SPA router changes the URL
+     * 
+     * @return Navigation count
+     */
+    public long getNavigationCount() {
+        return navigations.get();
+    }
+
+    /**
+     * Check whether no XHR/fetch request is in flight and none started or finished recently
+     *
+     * @param quietMillis Time without network activity required
+     * @return true if the network is idle
+     */
+    public boolean isIdle(long quietMillis) {
+        return inFlight.isEmpty() && System.currentTimeMillis() - lastActivity >= quietMillis;
+    }
+
+    /**
+     * Wait until the network has been idle for the quiet period
+     *
+     * @param quietPeriod Time without network activity required
+     * @param timeout Maximum time to wait
+     * @throws org.openqa.selenium.TimeoutException If requests are still in flight at the timeout
+     */
+    public void waitForNetworkIdle(Duration quietPeriod, Duration timeout) {
+        long quietMillis = quietPeriod.toMillis();
+        new FluentWait<>(this)
+            .withTimeout(timeout)
+            .pollingEvery(Duration.ofMillis(50))
+            .withMessage(() -> inFlight.size() + " XHR/fetch requests still in flight")
+            .until(tracker -> tracker.isIdle(quietMillis));
+    }
+
+    /**
+     * Mark a request as finished
+     *
+     * @param params Event parameters
+     */
+    private void finished(Map<String, Object> params) {
+        if (inFlight.remove(String.valueOf(params.get("requestId")))) {
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Read raw event parameters
+     *
+     * @param input Event JSON
+     * @return Parameters as a map
+     */
+    private static Map<String, Object> readParams(JsonInput input) {
+        return input.read(Json.MAP_TYPE);
+    }
+}
@@ -0,0 +1,144 @@
+package generic;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.slf4j.Logger;
+
+/**
+ * PageFactory field decorator that adds the {@link PageCached} element cache.
+ *
+ * Fields without the annotation behave exactly like plain PageFactory proxies and run
+ * findElement on every access. Annotated fields keep the resolved element until the
+ * session's {@link NetworkTracker} reports a navigation, or until a call on the element
+ * throws StaleElementReferenceException, in which case it is looked up again and the call
+ * retried once. Without a network tracker (no DevTools) the cache is bypassed.
+ */
+public class PageCacheDecorator extends DefaultFieldDecorator {
+    private static final Logger logger = LoggerUtil.getLogger(PageCacheDecorator.class);
+
+    private final WebDriver driver;
+
+    /**
+     * Create a decorator for page objects of the driver
+     *
+     * @param driver WebDriver instance
+     */
+    public PageCacheDecorator(WebDriver driver) {
+        super(new DefaultElementLocatorFactory(driver));
+        this.driver = driver;
+    }
+
+    @Override
+    public Object decorate(ClassLoader loader, Field field) {
+        if (!field.isAnnotationPresent(PageCached.class)
+                || !WebElement.class.isAssignableFrom(field.getType())
+                || !(field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                    || field.isAnnotationPresent(FindAll.class))) {
+            return super.decorate(loader, field);
+        }
+        CachingLocator locator = new CachingLocator(driver, field);
+        return Proxy.newProxyInstance(loader,
+            new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class },
+            new RetryingHandler(locator));
+    }
+
+    /**
+     * Locator that remembers the element it found for the current page
+     */
+    private static final class CachingLocator implements ElementLocator {
+        private final WebDriver driver;
+        private final ElementLocator delegate;
+        private final String fieldName;
+        private WebElement cached;
+        private long cachedAt;
+
+        private CachingLocator(WebDriver driver, Field field) {
+            this.driver = driver;
+            this.delegate = new DefaultElementLocator(driver, field);
+            this.fieldName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        }
+
+        @Override
+        public WebElement findElement() {
+            NetworkTracker tracker = NetworkTracker.get(driver);
+            if (tracker == null) {
+                return delegate.findElement();
+            }
+            long navigation = tracker.getNavigationCount();
+            if (cached == null || cachedAt != navigation) {
+                cached = delegate.findElement();
+                cachedAt = navigation;
+                logger.debug("Resolved {} for page state {}", fieldName, navigation);
+            }
+            return cached;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            return delegate.findElements();
+        }
+
+        private void invalidate() {
+            cached = null;
+        }
+
+        @Override
+        public String toString() {
+            return "Cached " + delegate;
+        }
+    }
+
+    /**
+     * Proxy handler that resolves the element through the caching locator and retries once
+     * with a fresh lookup when the cached element has gone stale
+     */
+    private static final class RetryingHandler implements InvocationHandler {
+        private final CachingLocator locator;
+
+        private RetryingHandler(CachingLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && (args == null || args.length == 0)) {
+                return "Proxy element for: " + locator;
+            }
+            WebElement element = locator.findElement();
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+                logger.debug("Cached element went stale, looking up {} again", locator.fieldName);
+                locator.invalidate();
+                try {
+                    return method.invoke(locator.findElement(), args);
+                } catch (InvocationTargetException retry) {
+                    throw retry.getCause();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package generic;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a @FindBy WebElement field whose element is resolved once per page and reused.
+ *
+ * The element is looked up again after a navigation (including SPA route changes) or when
+ * it has gone stale. Only use it for elements that stay in the DOM while the screen is shown,
+ * e.g. menu buttons and navigation links, not for rows or dialogs that are re-rendered.
+ * Requires the POM to call {@link BasePage#initElements()}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface PageCached {
+}
@@ -0,0 +1,314 @@
+package generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Immutable state of several elements captured with a single executeScript call.
+ *
+ * Reading visibility, enabled state, text and position through WebElement costs one
+ * WebDriver command per property (plus a findElement per @FindBy proxy access). A snapshot
+ * resolves all locators and reads all properties inside the page in one round trip.
+ * Taken through {@link BasePage#snapshot(By...)}.
+ */
+public final class PageSnapshot {
+
+    // Resolves each {using, value} locator and reads the element state; null for no match
+    private static final String SNAPSHOT_SCRIPT =
+        "var specs = arguments[0], names = arguments[1], out = [];"
+        + "function find(using, value) {"
+        + "  if (using === 'xpath') {"
+        + "    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "  }"
+        + "  if (using === 'css selector') return document.querySelector(value);"
+        + "  if (using === 'tag name') return document.getElementsByTagName(value)[0] || null;"
+        + "  var links = document.getElementsByTagName('a');"
+        + "  for (var i = 0; i < links.length; i++) {"
+        + "    var text = (links[i].innerText || '').trim();"
+        + "    if (using === 'link text' ? text === value : text.indexOf(value) >= 0) return links[i];"
+        + "  }"
+        + "  return null;"
+        + "}"
+        + "for (var s = 0; s < specs.length; s++) {"
+        + "  var el = null;"
+        + "  try { el = find(specs[s][0], specs[s][1]); } catch (e) { el = null; }"
+        + "  if (!el) { out.push(null); continue; }"
+        + "  var rect = el.getBoundingClientRect(), style = getComputedStyle(el), attrs = {};"
+        + "  for (var n = 0; n < names.length; n++) attrs[names[n]] = el.getAttribute(names[n]);"
+        + "  out.push({"
+        + "    displayed: rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden'"
+        + "      && style.visibility !== 'collapse' && style.display !== 'none',"
+        + "    enabled: !el.disabled,"
+        + "    selected: !!(el.checked || el.selected),"
+        + "    text: (el.innerText || el.textContent || '').trim(),"
+        + "    x: rect.left, y: rect.top, width: rect.width, height: rect.height,"
+        + "    attributes: attrs"
+        + "  });"
+        + "}"
+        + "return out;";
+
+    private final Map<By, ElementState> states;
+
+    /**
+     * Create a snapshot from already captured states
+     *
+     * @param states Element state per locator
+     */
+    private PageSnapshot(Map<By, ElementState> states) {
+        this.states = Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Capture the state of the first element matching each locator
+     *
+     * @param driver WebDriver instance
+     * @param locators Locators to resolve; By.id, name, className, cssSelector, xpath,
+     *                 tagName, linkText and partialLinkText are supported
+     * @param attributes Attribute names to read from every matched element
+     * @return Snapshot of all locators
+     * @throws IllegalArgumentException If a locator cannot be resolved inside the page
+     */
+    @SuppressWarnings("unchecked")
+    public static PageSnapshot capture(WebDriver driver, List<By> locators, List<String> attributes) {
+        List<List<String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            specs.add(toSpec(locator));
+        }
+        List<Object> results = (List<Object>) ((JavascriptExecutor) driver)
+            .executeScript(SNAPSHOT_SCRIPT, specs, attributes);
+
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            Object result = results.get(i);
+            states.put(locators.get(i), result == null
+                ? ElementState.ABSENT
+                : ElementState.from((Map<String, Object>) result));
+        }
+        return new PageSnapshot(states);
+    }
+
+    /**
+     * Get the captured state of a locator
+     *
+     * @param locator Locator passed to {@link #capture}
+     * @return Element state; {@link ElementState#isPresent()} is false if nothing matched
+     * @throws IllegalArgumentException If the locator was not part of the snapshot
+     */
+    public ElementState get(By locator) {
+        ElementState state = states.get(locator);
+        if (state == null) {
+            throw new IllegalArgumentException("Locator was not captured in this snapshot: " + locator);
+        }
+        return state;
+    }
+
+    /**
+     * Get the captured states in locator order
+     *
+     * @return Unmodifiable map of locator to state
+     */
+    public Map<By, ElementState> asMap() {
+        return states;
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot" + states;
+    }
+
+    /**
+     * Convert a locator to the W3C strategy and value understood by the snapshot script.
+     * By.id, name and className are turned into the equivalent CSS attribute selectors.
+     *
+     * @param locator Locator to convert
+     * @return [strategy, value]
+     */
+    private static List<String> toSpec(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+            String value = String.valueOf(params.value());
+            switch (params.using()) {
+                case "id":
+                    return List.of("css selector", "[id=" + cssString(value) + "]");
+                case "name":
+                    return List.of("css selector", "[name=" + cssString(value) + "]");
+                case "class name":
+                    return List.of("css selector", "[class~=" + cssString(value) + "]");
+                case "xpath":
+                case "css selector":
+                case "tag name":
+                case "link text":
+                case "partial link text":
+                    return List.of(params.using(), value);
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("Locator is not supported in a page snapshot: " + locator);
+    }
+
+    /**
+     * Quote a value as a CSS string
+     *
+     * @param value Raw value
+     * @return Double-quoted CSS string
+     */
+    private static String cssString(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c == '\n') {
+                sb.append("\\a ");
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * State of a single element at the time of the snapshot
+     */
+    public static final class ElementState {
+        static final ElementState ABSENT = new ElementState(false, false, false, false, "",
+            0, 0, 0, 0, Collections.emptyMap());
+
+        private final boolean present;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final boolean selected;
+        private final String text;
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+        private final Map<String, String> attributes;
+
+        private ElementState(boolean present, boolean displayed, boolean enabled, boolean selected, String text,
+                double x, double y, double width, double height, Map<String, String> attributes) {
+            this.present = present;
+            this.displayed = displayed;
+            this.enabled = enabled;
+            this.selected = selected;
+            this.text = text;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.attributes = attributes;
+        }
+
+        /**
+         * Build a state from the script result of one element
+         *
+         * @param raw Script result
+         * @return Element state
+         */
+        @SuppressWarnings("unchecked")
+        private static ElementState from(Map<String, Object> raw) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Object rawAttributes = raw.get("attributes");
+            if (rawAttributes instanceof Map) {
+                ((Map<String, Object>) rawAttributes).forEach((name, value) ->
+                    attributes.put(name, value == null ? null : String.valueOf(value)));
+            }
+            return new ElementState(true,
+                Boolean.TRUE.equals(raw.get("displayed")),
+                Boolean.TRUE.equals(raw.get("enabled")),
+                Boolean.TRUE.equals(raw.get("selected")),
+                raw.get("text") == null ? "" : String.valueOf(raw.get("text")),
+                number(raw.get("x")), number(raw.get("y")),
+                number(raw.get("width")), number(raw.get("height")),
+                Collections.unmodifiableMap(attributes));
+        }
+
+        private static double number(Object value) {
+            return value instanceof Number ? ((Number) value).doubleValue() : 0;
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return true if the element is displayed and enabled
+         */
+        public boolean isClickable() {
+            return displayed && enabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        /**
+         * @return Trimmed rendered text, empty if the element is absent
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return Left edge relative to the viewport, in CSS pixels
+         */
+        public double getX() {
+            return x;
+        }
+
+        /**
+         * @return Top edge relative to the viewport, in CSS pixels
+         */
+        public double getY() {
+            return y;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        /**
+         * Get a requested attribute
+         *
+         * @param name Attribute name passed to the snapshot
+         * @return Attribute value, or null if not set or not requested
+         */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        /**
+         * @return Unmodifiable map of the requested attributes
+         */
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return present
+                ? "{displayed=" + displayed + ", enabled=" + enabled + ", selected=" + selected
+                    + ", text='" + text + "', attributes=" + attributes + "}"
+                : "{absent}";
+        }
+    }
+}
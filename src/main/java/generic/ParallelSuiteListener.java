@@ -0,0 +1,57 @@
+package generic;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+/**
+ * Suite listener that applies the configured parallel mode and thread count
+ * before TestNG starts executing the suite.
+ * 
+ * The values are read from the system properties "parallel.mode" and "thread.count"
+ * (e.g. mvn test -Dparallel.mode=classes -Dthread.count=4) and fall back to the
+ * same keys in test_data.properties. Supported modes are none, classes and methods.
+ * A value that is not configured leaves the suite's own XML setting in place.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(ParallelSuiteListener.class);
+    
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = Test_DataByPropertyFILE.getData("parallel.mode", null);
+        String threads = Test_DataByPropertyFILE.getData("thread.count", null);
+        
+        XmlSuite.ParallelMode parallelMode = null;
+        if (mode != null) {
+            parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+            if (parallelMode != XmlSuite.ParallelMode.NONE
+                    && parallelMode != XmlSuite.ParallelMode.CLASSES
+                    && parallelMode != XmlSuite.ParallelMode.METHODS) {
+                logger.warn("⚠️ Unsupported parallel mode '{}', running serially", mode);
+                parallelMode = XmlSuite.ParallelMode.NONE;
+            }
+        }
+        
+        Integer threadCount = null;
+        if (threads != null) {
+            try {
+                threadCount = Math.max(1, Integer.parseInt(threads));
+            } catch (NumberFormatException e) {
+                logger.warn("⚠️ Invalid thread.count '{}', keeping the suite's thread-count", threads);
+            }
+        }
+        
+        for (XmlSuite suite : suites) {
+            if (parallelMode != null) {
+                suite.setParallel(parallelMode);
+            }
+            if (threadCount != null) {
+                suite.setThreadCount(threadCount);
+            }
+            logger.info("🚀 Suite '{}' configured with parallel={} thread-count={}", 
+                suite.getName(), suite.getParallel(), suite.getThreadCount());
+        }
+    }
+}
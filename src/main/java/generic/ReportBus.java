@@ -0,0 +1,138 @@
+package generic;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+
+/**
+ * Asynchronous bus for report events.
+ *
+ * Test threads post events to a lock-free queue and return immediately; a single consumer
+ * thread applies them to ExtentReports in the order they were posted, so parallel test
+ * threads never contend on the reporter. {@link ExtentReportManager#flush()} drains the bus
+ * before writing the report (once per suite, see {@link ReportFlushListener}), and a shutdown hook drains whatever is left on exit.
+ */
+public final class ReportBus {
+    private static final Logger logger = LoggerUtil.getLogger(ReportBus.class);
+
+    // How long the idle consumer parks before it checks the queue again
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong posted = new AtomicLong();
+    private static final AtomicLong applied = new AtomicLong();
+    private static final Thread consumer = new Thread(ReportBus::consume, "report-bus");
+
+    static {
+        consumer.setDaemon(true);
+        consumer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(10_000), "report-bus-shutdown"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ReportBus() {
+    }
+
+    /**
+     * Post a log entry for an Extent test
+     *
+     * @param test ExtentTest to log to; ignored if null
+     * @param status Log status
+     * @param details Log message
+     */
+    public static void log(ExtentTest test, Status status, String details) {
+        if (test != null) {
+            post(() -> test.log(status, details));
+        }
+    }
+
+    /**
+     * Post a markup log entry for an Extent test
+     *
+     * @param test ExtentTest to log to; ignored if null
+     * @param status Log status
+     * @param markup Log markup
+     */
+    public static void log(ExtentTest test, Status status, Markup markup) {
+        if (test != null) {
+            post(() -> test.log(status, markup));
+        }
+    }
+
+    /**
+     * Post a screenshot for an Extent test
+     *
+     * @param test ExtentTest to attach to; ignored if null
+     * @param path Path of the screenshot file
+     */
+    public static void screenshot(ExtentTest test, String path) {
+        if (test != null) {
+            post(() -> test.addScreenCaptureFromPath(path));
+        }
+    }
+
+    /**
+     * Post an arbitrary report action to run on the consumer thread
+     *
+     * @param event Action to apply
+     */
+    public static void post(Runnable event) {
+        posted.incrementAndGet();
+        events.offer(event);
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Wait until every event posted before this call has been applied
+     *
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the bus was drained in time
+     */
+    public static boolean drain(long timeoutMillis) {
+        long target = posted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (applied.get() < target) {
+            if (Thread.currentThread() == consumer) {
+                // Called from an event; the remaining events run once it returns
+                return false;
+            }
+            if (System.nanoTime() > deadline) {
+                logger.warn("⚠️ {} report events still pending after {} ms", target - applied.get(), timeoutMillis);
+                return false;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * Consumer loop: apply events in order, park while the queue is empty
+     */
+    private static void consume() {
+        while (true) {
+            Runnable event = events.poll();
+            if (event == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                logger.error("❌ Failed to apply report event: {}", e.getMessage(), e);
+            } finally {
+                applied.incrementAndGet();
+            }
+        }
+    }
+}
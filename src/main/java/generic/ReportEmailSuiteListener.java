@@ -6,8 +6,6 @@ import org.testng.ISuiteResult;
 import org.testng.ITestContext;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Properties;
-import java.io.FileInputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.Duration;
@@ -30,9 +28,7 @@ public class ReportEmailSuiteListener implements ISuiteListener {
         try {
             logger.info("Starting to send test report email...");
             GmailUtility gmail = new GmailUtility();
-            Properties props = new Properties();
-            props.load(new FileInputStream("property/test_data.properties"));
-            String teamEmails = props.getProperty("team.email");
+            String teamEmails = Config.get("team.email");
             List<String> recipients = Arrays.asList(teamEmails.split(",\\s*"));
             
             logger.info("Email recipients: {}", recipients);
@@ -0,0 +1,105 @@
+package generic;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Suite listener that owns the Extent report flush policy.
+ *
+ * Every flush re-renders the whole Spark report, so it is no longer done after each
+ * &lt;test&gt; block; the report is always flushed once when the suite finishes.
+ * "extent.flush.policy" adds optional intermediate flushes, as a comma separated list of:
+ *
+ *   final      only the flush at the end of the suite
+ *   interval   also flush every "extent.flush.interval.seconds" in the background
+ *   crash      also flush from a shutdown hook if the JVM exits before the suite finished
+ *
+ * Suite listeners that need the finished report, such as {@link TestEmailListener}, call
+ * {@link #finishReport()} themselves, so they do not depend on listener invocation order.
+ */
+public class ReportFlushListener implements ISuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(ReportFlushListener.class);
+
+    private static final AtomicBoolean finished = new AtomicBoolean();
+
+    private ScheduledExecutorService flusher;
+    private Thread crashHook;
+
+    @Override
+    public void onStart(ISuite suite) {
+        Set<String> policy = Arrays.stream(Test_DataByPropertyFILE.getData("extent.flush.policy", "final,crash").split(","))
+            .map(mode -> mode.trim().toLowerCase())
+            .filter(mode -> !mode.isEmpty())
+            .collect(Collectors.toSet());
+        logger.info("📊 Extent report flush policy: {}", policy);
+        finished.set(false);
+
+        if (policy.contains("interval")) {
+            long seconds = Long.parseLong(Test_DataByPropertyFILE.getData("extent.flush.interval.seconds", "60"));
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "extent-report-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(() -> flush("interval"), seconds, seconds, TimeUnit.SECONDS);
+        }
+        if (policy.contains("crash")) {
+            crashHook = new Thread(() -> flush("crash"), "extent-report-crash-flush");
+            Runtime.getRuntime().addShutdownHook(crashHook);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        if (crashHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(crashHook);
+            } catch (IllegalStateException e) {
+                // JVM already shutting down; the hook flushes
+            }
+        }
+        finishReport();
+    }
+
+    /**
+     * Complete the report of the suite and flush it; only the first call does the work
+     */
+    public static void finishReport() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        // Failure screenshots and the timing summaries go into the report, add them first
+        ScreenshotService.awaitPending(30_000);
+        CommandTimer.publish();
+        TimeAccount.publish();
+        flush("final");
+        logger.info("📊 Test Report generated successfully");
+    }
+
+    /**
+     * Flush the report, logging instead of failing the suite
+     *
+     * @param reason What triggered the flush
+     */
+    private static void flush(String reason) {
+        try {
+            long start = System.currentTimeMillis();
+            ExtentReportManager.flush();
+            logger.debug("Extent report flushed ({}) in {} ms", reason, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("❌ Failed to flush extent report ({}): {}", reason, e.getMessage(), e);
+        }
+    }
+}
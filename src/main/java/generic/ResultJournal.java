@@ -0,0 +1,344 @@
+package generic;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.testng.ITestResult;
+
+/**
+ * Append-only JSONL journal of the run, written while the tests execute.
+ *
+ * Every test start, report step, retry and finish becomes one JSON line with a timestamp,
+ * so the results survive a crashed JVM and reports or summaries can be rebuilt from the file
+ * with {@link #read(Path)} without rerunning anything. Lines are collected in a buffer and
+ * written through a FileChannel, which is fsynced every "journal.fsync.interval.ms"
+ * (and whenever the buffer fills). Configured through:
+ *
+ *   journal.enabled=true
+ *   journal.dir=test-output/journal
+ *   journal.fsync.interval.ms=1000
+ */
+public final class ResultJournal {
+    private static final Logger logger = LoggerUtil.getLogger(ResultJournal.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(Test_DataByPropertyFILE.getData("journal.enabled", "true"));
+    private static final Object lock = new Object();
+    private static final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private static FileChannel channel;
+    private static Path path;
+    private static boolean dirty;
+
+    static {
+        if (ENABLED) {
+            open();
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ResultJournal() {
+    }
+
+    /**
+     * Get the journal file of this run
+     *
+     * @return Journal path, or null if the journal is disabled or could not be opened
+     */
+    public static Path getPath() {
+        return path;
+    }
+
+    /**
+     * Record the start of a test method
+     *
+     * @param result Test result of the starting method
+     */
+    public static void testStarted(ITestResult result) {
+        Map<String, Object> event = event("start", result);
+        event.put("description", result.getMethod().getDescription());
+        append(event);
+    }
+
+    /**
+     * Record a report step of the running test
+     *
+     * @param result Test result the step belongs to, or null outside a test
+     * @param status Step status, e.g. PASS or FAIL
+     * @param message Step message
+     */
+    public static void step(ITestResult result, String status, String message) {
+        Map<String, Object> event = event("step", result);
+        event.put("status", status);
+        event.put("message", message);
+        append(event);
+    }
+
+    /**
+     * Record a failed attempt that will be retried
+     *
+     * @param result Test result of the failed attempt
+     * @param attempt Retry number about to run
+     */
+    public static void retry(ITestResult result, int attempt) {
+        Map<String, Object> event = event("retry", result);
+        event.put("attempt", attempt);
+        event.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        event.put("error", String.valueOf(result.getThrowable()));
+        append(event);
+    }
+
+    /**
+     * Record the final outcome of a test method
+     *
+     * @param result Finished test result
+     */
+    public static void testFinished(ITestResult result) {
+        Map<String, Object> event = event("finish", result);
+        event.put("status", statusName(result.getStatus()));
+        event.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        Object retries = result.getAttribute("RETRY_COUNT");
+        if (retries != null) {
+            event.put("retries", retries);
+        }
+        if (result.getThrowable() != null) {
+            event.put("error", String.valueOf(result.getThrowable()));
+        }
+        append(event);
+    }
+
+    /**
+     * Write the buffered lines and fsync the file
+     */
+    public static void sync() {
+        synchronized (lock) {
+            if (channel == null || !dirty) {
+                return;
+            }
+            try {
+                writeBuffer();
+                channel.force(false);
+                dirty = false;
+            } catch (IOException e) {
+                logger.error("❌ Failed to sync result journal: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Read a journal back as one map per event, in the order they were written.
+     * The stream must be closed by the caller.
+     *
+     * @param journal Journal file
+     * @return Stream of events
+     * @throws IOException If the file cannot be opened
+     */
+    public static Stream<Map<String, Object>> read(Path journal) throws IOException {
+        Json json = new Json();
+        BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8);
+        return reader.lines()
+            .filter(line -> !line.isBlank())
+            .map(line -> parse(json, line))
+            .onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    private static Map<String, Object> parse(Json json, String line) {
+        return json.toType(line, Json.MAP_TYPE);
+    }
+
+    /**
+     * Open the journal file and start the periodic fsync
+     */
+    private static void open() {
+        try {
+            File dir = new File(Test_DataByPropertyFILE.getData("journal.dir", "test-output/journal"));
+            dir.mkdirs();
+            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+            path = new File(dir, "results_" + timestamp + ".jsonl").toPath();
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+
+            long interval = Long.parseLong(Test_DataByPropertyFILE.getData("journal.fsync.interval.ms", "1000"));
+            ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "result-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(ResultJournal::sync, interval, interval, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(ResultJournal::close, "result-journal-close"));
+            logger.info("📝 Writing result journal to {}", path);
+        } catch (IOException | RuntimeException e) {
+            logger.error("❌ Result journal disabled, cannot open it: {}", e.getMessage(), e);
+            channel = null;
+            path = null;
+        }
+    }
+
+    /**
+     * Sync and close the journal on JVM exit
+     */
+    private static void close() {
+        sync();
+        synchronized (lock) {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                logger.debug("Ignoring failure while closing result journal: {}", e.getMessage());
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Create an event with the fields common to all event types
+     *
+     * @param type Event type
+     * @param result Test result, or null
+     * @return Mutable event map
+     */
+    private static Map<String, Object> event(String type, ITestResult result) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("ts", System.currentTimeMillis());
+        event.put("event", type);
+        event.put("thread", Thread.currentThread().getName());
+        if (result != null) {
+            event.put("suite", result.getTestContext().getSuite().getName());
+            event.put("test", result.getTestContext().getName());
+            event.put("class", result.getTestClass().getName());
+            event.put("method", result.getMethod().getMethodName());
+            if (result.getParameters().length > 0) {
+                event.put("parameters", Arrays.toString(result.getParameters()));
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Append one event as a JSON line
+     *
+     * @param event Event to write
+     */
+    private static void append(Map<String, Object> event) {
+        if (channel == null) {
+            return;
+        }
+        byte[] line = (toJson(event) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                if (line.length > buffer.remaining()) {
+                    writeBuffer();
+                }
+                if (line.length > buffer.capacity()) {
+                    channel.write(ByteBuffer.wrap(line));
+                } else {
+                    buffer.put(line);
+                }
+                dirty = true;
+            } catch (IOException e) {
+                logger.error("❌ Failed to write result journal: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the channel; caller holds the lock
+     *
+     * @throws IOException If the write fails
+     */
+    private static void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Encode a flat event map as a single-line JSON object
+     *
+     * @param event Event with string, number, boolean or null values
+     * @return JSON text
+     */
+    private static String toJson(Map<String, Object> event) {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, Object> entry : event.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            quote(sb, entry.getKey());
+            sb.append(':');
+            Object value = entry.getValue();
+            if (value == null || value instanceof Number || value instanceof Boolean) {
+                sb.append(value);
+            } else {
+                quote(sb, String.valueOf(value));
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void quote(StringBuilder sb, String text) {
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static String statusName(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS: return "PASS";
+            case ITestResult.FAILURE: return "FAIL";
+            case ITestResult.SKIP: return "SKIP";
+            case ITestResult.SUCCESS_PERCENTAGE_FAILURE: return "PASS_WITHIN_PERCENTAGE";
+            default: return "UNKNOWN";
+        }
+    }
+}
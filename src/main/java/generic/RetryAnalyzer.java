@@ -2,8 +2,8 @@ package generic;
 
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RetryAnalyzer class to retry failed tests
@@ -14,8 +14,8 @@ public class RetryAnalyzer implements IRetryAnalyzer {
     // Maximum retry count
     private int maxRetryCount = 2;
     
-    // Map to store retry count for each test method
-    private Map<String, Integer> retryCountMap = new HashMap<>();
+    // Map to store retry count for each test method (shared by parallel worker threads)
+    private final Map<String, Integer> retryCountMap = new ConcurrentHashMap<>();
     
     /**
      * This method is called when a test fails
@@ -28,15 +28,23 @@ public class RetryAnalyzer implements IRetryAnalyzer {
         // Get the unique identifier for the test method
         String testMethodId = getTestMethodId(result);
         
-        // Get the current retry count for this test method
-        int retryCount = retryCountMap.getOrDefault(testMethodId, 0);
+        // Atomically claim the next retry slot for this test method
+        int[] claimed = new int[1];
+        retryCountMap.compute(testMethodId, (key, current) -> {
+            int count = current == null ? 0 : current;
+            if (count < maxRetryCount) {
+                claimed[0] = count + 1;
+                return count + 1;
+            }
+            return count;
+        });
+        int retryCount = claimed[0];
         
-        if (retryCount < maxRetryCount) {
-            System.out.println("⚠️ Retrying test: " + result.getName() + " for the " + (retryCount + 1) + " time out of " + maxRetryCount);
-            retryCountMap.put(testMethodId, retryCount + 1);
+        if (retryCount > 0) {
+            System.out.println("⚠️ Retrying test: " + result.getName() + " for the " + retryCount + " time out of " + maxRetryCount);
             
             // Store the retry count in the test result attribute for reporting
-            result.setAttribute("RETRY_COUNT", retryCount + 1);
+            result.setAttribute("RETRY_COUNT", retryCount);
             
             return true;
         }
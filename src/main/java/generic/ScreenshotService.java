@@ -0,0 +1,211 @@
+package generic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.ExtentTest;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * Captures one screenshot per test failure and shares it with Extent, Allure and disk.
+ *
+ * reportFail, ListenerClass.onTestFailure and BaseTest.handleTestResult all ask for the
+ * failure screenshot of the same ITestResult; only the first call takes it, later calls get
+ * the same capture back, attached to each distinct ExtentTest they pass in. The browser
+ * encodes the PNG once, and writing the file and the Allure attachment happens on a
+ * background thread so the test thread only waits for the capture itself. Files are
+ * compressed and deduplicated by {@link ScreenshotStore}.
+ * Call {@link #awaitPending(long)} before the reports are flushed.
+ */
+public final class ScreenshotService {
+    private static final Logger logger = LoggerUtil.getLogger(ScreenshotService.class);
+
+    private static final String RESULT_ATTRIBUTE = "FAILURE_SCREENSHOT";
+    private static final String SCREENSHOT_DIR = System.getProperty("user.dir") + "/test-output/screenshots";
+
+    private static final ExecutorService writer = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "screenshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitPending(10_000), "screenshot-writer-shutdown"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ScreenshotService() {
+    }
+
+    /**
+     * Get the failure screenshot of a test result, capturing it on the first call.
+     * The screenshot is attached to every distinct Extent test passed in, and once to the
+     * running Allure test.
+     *
+     * @param driver WebDriver to capture
+     * @param result Test result the screenshot belongs to, or null to capture without sharing
+     * @param test ExtentTest to attach the screenshot to, or null
+     * @return The screenshot, or null if the driver cannot take one
+     */
+    public static Screenshot captureFailure(WebDriver driver, ITestResult result, ExtentTest test) {
+        try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.REPORTING)) {
+            return capture(driver, result, test);
+        }
+    }
+
+    private static Screenshot capture(WebDriver driver, ITestResult result, ExtentTest test) {
+        if (result != null) {
+            Object existing = result.getAttribute(RESULT_ATTRIBUTE);
+            if (existing instanceof Screenshot) {
+                Screenshot screenshot = (Screenshot) existing;
+                screenshot.attachTo(test);
+                return screenshot;
+            }
+        }
+        if (!(driver instanceof TakesScreenshot)) {
+            return null;
+        }
+
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to capture screenshot: {}", e.getMessage());
+            return null;
+        }
+        String name = result != null ? result.getMethod().getMethodName() : "screenshot";
+        ScreenshotStore.Entry entry = ScreenshotStore.reserve(png, SCREENSHOT_DIR, name + "_" + System.currentTimeMillis());
+        Screenshot screenshot = new Screenshot(png, entry.getPath());
+        if (result != null) {
+            result.setAttribute(RESULT_ATTRIBUTE, screenshot);
+        }
+
+        // The Allure attachment must be registered on the test thread; only its content is written later
+        String allureSource = null;
+        try {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            if (lifecycle.getCurrentTestCase().isPresent()) {
+                allureSource = lifecycle.prepareAttachment("Test Failure Screenshot",
+                    ScreenshotStore.mimeType(), ScreenshotStore.extension());
+            }
+        } catch (Exception e) {
+            logger.debug("Allure attachment skipped: {}", e.getMessage());
+        }
+        screenshot.attachTo(test);
+        write(entry, screenshot, allureSource);
+        return screenshot;
+    }
+
+    /**
+     * Wait until all queued screenshots are written
+     *
+     * @param timeoutMillis Maximum time to wait
+     */
+    public static void awaitPending(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Future<?> write;
+        while ((write = pending.poll()) != null) {
+            try {
+                write.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (TimeoutException e) {
+                logger.warn("⚠️ Screenshots still being written after {} ms", timeoutMillis);
+                return;
+            } catch (ExecutionException e) {
+                // Already logged by the writer
+            }
+        }
+    }
+
+    /**
+     * Queue encoding the screenshot and writing the file and Allure attachment content
+     *
+     * @param entry Storage entry reserved for the screenshot
+     * @param screenshot Captured screenshot
+     * @param allureSource Prepared Allure attachment source, or null
+     */
+    private static void write(ScreenshotStore.Entry entry, Screenshot screenshot, String allureSource) {
+        try {
+            pending.add(writer.submit(() -> {
+                try {
+                    byte[] stored = ScreenshotStore.write(entry, screenshot.getBytes());
+                    if (allureSource != null) {
+                        Allure.getLifecycle().writeAttachment(allureSource, new ByteArrayInputStream(stored));
+                    }
+                    logger.debug("Screenshot written to {}", screenshot.getPath());
+                } catch (IOException | RuntimeException e) {
+                    logger.error("❌ Failed to write screenshot {}: {}", screenshot.getPath(), e.getMessage(), e);
+                }
+            }));
+        } catch (RuntimeException e) {
+            logger.error("❌ Failed to queue screenshot {}: {}", screenshot.getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * A captured screenshot shared by all reports of one event
+     */
+    public static final class Screenshot {
+        private final byte[] png;
+        private final String path;
+        private final Set<ExtentTest> attachedTo = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Screenshot(byte[] png, String path) {
+            this.png = png;
+            this.path = path;
+        }
+
+        /**
+         * @return PNG bytes as captured by the browser
+         */
+        public byte[] getBytes() {
+            return png;
+        }
+
+        /**
+         * @return Absolute path the screenshot is (being) written to, in the stored format
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Attach the screenshot to an Extent test unless it already has it
+         *
+         * @param test Extent test, or null
+         */
+        private void attachTo(ExtentTest test) {
+            boolean added;
+            synchronized (attachedTo) {
+                added = test != null && attachedTo.add(test);
+            }
+            if (added) {
+                ReportBus.screenshot(test, path);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package generic;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+
+/**
+ * Storage for screenshots: transcodes the browser's PNG to the configured format,
+ * downscales it and writes each distinct frame only once.
+ *
+ *   screenshot.format=jpg          jpg, png or webp (webp needs an ImageIO WebP plugin, else jpg)
+ *   screenshot.max.width=1280      wider captures are scaled down; 0 keeps the original size
+ *   screenshot.quality=0.75        lossy compression quality between 0 and 1
+ *
+ * Identical captures (same PNG bytes, e.g. the same error page on every retry) for the same
+ * directory share one file: the second request gets the path of the first. A frame whose
+ * write failed is forgotten, so later captures store it again.
+ */
+public final class ScreenshotStore {
+    private static final Logger logger = LoggerUtil.getLogger(ScreenshotStore.class);
+
+    private static final String FORMAT = resolveFormat(Test_DataByPropertyFILE.getData("screenshot.format", "jpg"));
+    private static final int MAX_WIDTH = Integer.parseInt(Test_DataByPropertyFILE.getData("screenshot.max.width", "1280"));
+    private static final float QUALITY = Float.parseFloat(Test_DataByPropertyFILE.getData("screenshot.quality", "0.75"));
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ScreenshotStore() {
+    }
+
+    /**
+     * File extension of stored screenshots
+     *
+     * @return Extension without the dot
+     */
+    public static String extension() {
+        return FORMAT;
+    }
+
+    /**
+     * MIME type of stored screenshots
+     *
+     * @return MIME type
+     */
+    public static String mimeType() {
+        return "jpg".equals(FORMAT) ? "image/jpeg" : "image/" + FORMAT;
+    }
+
+    /**
+     * Encode and write a screenshot on the calling thread
+     *
+     * @param png Screenshot as captured by the browser
+     * @param directory Target directory
+     * @param name File name without extension
+     * @return Path of the stored file, which may be an earlier identical capture
+     * @throws IOException If the screenshot cannot be written
+     */
+    public static String store(byte[] png, String directory, String name) throws IOException {
+        Entry entry = reserve(png, directory, name);
+        write(entry, png);
+        return entry.getPath();
+    }
+
+    /**
+     * Decide where a screenshot is stored without encoding it yet.
+     * Cheap enough for the test thread; pass the entry to {@link #write} later.
+     *
+     * @param png Screenshot as captured by the browser
+     * @param directory Target directory
+     * @param name File name without extension, used if this frame was not stored before
+     * @return Entry shared by all identical captures for the directory
+     */
+    public static Entry reserve(byte[] png, String directory, String name) {
+        String key = new File(directory).getAbsolutePath() + "|" + sha256(png);
+        return entries.computeIfAbsent(key,
+            k -> new Entry(k, new File(directory, name + "." + FORMAT).getAbsolutePath()));
+    }
+
+    /**
+     * Encode and write the screenshot of an entry, unless an identical capture already did.
+     * If that earlier write failed, the file is written here instead.
+     *
+     * @param entry Entry from {@link #reserve}
+     * @param png Screenshot as captured by the browser
+     * @return Stored bytes in the configured format
+     * @throws IOException If the screenshot cannot be encoded, written or read back
+     */
+    public static byte[] write(Entry entry, byte[] png) throws IOException {
+        if (!entry.claimed.compareAndSet(false, true)) {
+            try {
+                if (!entry.written.await(30, TimeUnit.SECONDS)) {
+                    throw new IOException("Timed out waiting for " + entry.getPath());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + entry.getPath(), e);
+            }
+            if (!entry.failed) {
+                logger.debug("Reusing identical screenshot {}", entry.getPath());
+                return Files.readAllBytes(new File(entry.getPath()).toPath());
+            }
+            // The path was already handed out, so the file must still appear there
+            return encodeTo(entry.getPath(), png);
+        }
+        try {
+            return encodeTo(entry.getPath(), png);
+        } catch (IOException | RuntimeException e) {
+            entry.failed = true;
+            entries.remove(entry.key, entry);
+            throw e;
+        } finally {
+            entry.written.countDown();
+        }
+    }
+
+    /**
+     * Encode a screenshot and write it to a file
+     *
+     * @param path Absolute path of the file
+     * @param png Screenshot as captured by the browser
+     * @return Stored bytes in the configured format
+     * @throws IOException If the screenshot cannot be encoded or written
+     */
+    private static byte[] encodeTo(String path, byte[] png) throws IOException {
+        byte[] encoded = encode(png);
+        File file = new File(path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), encoded);
+        logger.debug("Stored screenshot {} ({} KB, {} KB captured)", file.getName(),
+            encoded.length / 1024, png.length / 1024);
+        return encoded;
+    }
+
+    /**
+     * Transcode and downscale a PNG capture
+     *
+     * @param png Screenshot as captured by the browser
+     * @return Image in the configured format
+     * @throws IOException If the image cannot be decoded or encoded
+     */
+    private static byte[] encode(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        if ("png".equals(FORMAT) && (MAX_WIDTH <= 0 || source.getWidth() <= MAX_WIDTH)) {
+            return png;
+        }
+
+        int width = MAX_WIDTH > 0 ? Math.min(MAX_WIDTH, source.getWidth()) : source.getWidth();
+        int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+        // Lossy formats have no alpha channel, so always draw onto an RGB image
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(FORMAT).next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!"png".equals(FORMAT) && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(Math.max(0f, Math.min(1f, QUALITY)));
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Normalize the configured format, falling back to JPEG when no writer is installed
+     *
+     * @param configured Configured format name
+     * @return Format with an available ImageIO writer
+     */
+    private static String resolveFormat(String configured) {
+        String format = configured.trim().toLowerCase(Locale.ROOT);
+        if ("jpeg".equals(format)) {
+            format = "jpg";
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            logger.warn("⚠️ No image writer for screenshot format '{}', using jpg", configured);
+            return "jpg";
+        }
+        return format;
+    }
+
+    /**
+     * Content hash used to detect identical captures
+     *
+     * @param data Bytes to hash
+     * @return Hex encoded SHA-256
+     */
+    private static String sha256(byte[] data) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Stored location of one distinct frame
+     */
+    public static final class Entry {
+        private final String key;
+        private final String path;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch written = new CountDownLatch(1);
+        private volatile boolean failed;
+
+        private Entry(String key, String path) {
+            this.key = key;
+            this.path = path;
+        }
+
+        /**
+         * @return Absolute path of the stored file
+         */
+        public String getPath() {
+            return path;
+        }
+    }
+}
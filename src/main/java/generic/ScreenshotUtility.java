@@ -3,7 +3,6 @@ package generic;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
@@ -21,14 +20,9 @@ public class ScreenshotUtility {
 
         // Generate timestamp for unique filename
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = screenshotDir + "/" + testName + "_" + timestamp + ".png";
 
-        // Take screenshot
-        TakesScreenshot ts = (TakesScreenshot) driver;
-        File source = ts.getScreenshotAs(OutputType.FILE);
-        File destination = new File(fileName);
-        FileUtils.copyFile(source, destination);
-
-        return fileName;
+        // Take screenshot; stored compressed and deduplicated
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        return ScreenshotStore.store(png, screenshotDir, testName + "_" + timestamp);
     }
 } 
\ No newline at end of file
@@ -3,8 +3,6 @@ package generic;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Properties;
-import java.io.FileInputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import org.slf4j.Logger;
@@ -17,19 +15,14 @@ public class SendReport {
         try {
             logger.info("Starting to send test report email...");
             
-            // Load properties
-            logger.info("Loading properties from test_data.properties...");
-            Properties props = new Properties();
-            props.load(new FileInputStream("property/test_data.properties"));
-            
             // Verify Gmail credentials
-            String gmailUsername = props.getProperty("gmail.username");
-            String gmailPassword = props.getProperty("gmail.password");
+            String gmailUsername = Config.get("gmail.username");
+            String gmailPassword = Config.get("gmail.password");
             logger.info("Gmail username: {}", gmailUsername);
             logger.info("Gmail password length: {}", gmailPassword != null ? gmailPassword.length() : 0);
             
             // Get team emails
-            String teamEmails = props.getProperty("team.email");
+            String teamEmails = Config.get("team.email");
             List<String> recipients = Arrays.asList(teamEmails.split(",\\s*"));
             logger.info("Email recipients: {}", recipients);
             
@@ -0,0 +1,597 @@
+package generic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+/**
+ * Merges the results of a run split across machines into one report.
+ *
+ * Each shard directory is the working directory (or a copy of it) of one node that ran part
+ * of testng.xml. The newest result journal of each shard is its run; a shard can also be given
+ * as a journal file to merge an earlier run. The runs are replayed into a single Extent report
+ * in test-output/reports, so {@link EmailReporter#findLatestTestReport()} picks the merged
+ * report, and the Allure results written during each run are copied into one results
+ * directory. Files are matched to a run by modification time, so copy shards with their
+ * timestamps (cp -p, rsync -a). Shards are named by their path relative to the common parent
+ * of all shards. A test that appears more than once, because it was retried or ran on several
+ * shards, is reported once with its latest outcome and the number of earlier attempts.
+ * A statistics summary is written as summary.json.
+ *
+ * Usage: ShardReportMerger [--out &lt;dir&gt;] [--allure] &lt;shardDir | journal.jsonl&gt;...
+ *
+ *   --out      output directory, default test-output/merged
+ *   --allure   also generate the Allure report from the merged results (needs allure on the PATH)
+ */
+public class ShardReportMerger {
+    private static final Logger logger = LoggerUtil.getLogger(ShardReportMerger.class);
+
+    private static final String DEFAULT_OUT = "test-output/merged";
+    private static final String REPORT_DIR = System.getProperty("user.dir") + "/test-output/reports";
+    private static final String SHARD_KEY = "shard";
+    private static final String JOURNAL_PREFIX = "results_";
+    private static final String JOURNAL_TIME_FORMAT = "yyyy-MM-dd_HH-mm-ss";
+    // Allure may write suite containers shortly before the journal is opened
+    private static final long RUN_GRACE_MILLIS = 60_000;
+
+    private final Json json = new Json();
+    private final Map<String, TestRecord> records = new LinkedHashMap<>();
+    private final Map<String, int[]> shardCounts = new LinkedHashMap<>();
+    private int duplicates;
+
+    public static void main(String[] args) {
+        Path out = Paths.get(DEFAULT_OUT);
+        boolean allure = false;
+        List<Path> shards = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--out".equals(args[i]) && i + 1 < args.length) {
+                out = Paths.get(args[++i]);
+            } else if ("--allure".equals(args[i])) {
+                allure = true;
+            } else {
+                shards.add(Paths.get(args[i]));
+            }
+        }
+        if (shards.isEmpty()) {
+            logger.error("Usage: ShardReportMerger [--out <dir>] [--allure] <shardDir | journal.jsonl>...");
+            return;
+        }
+        try {
+            Map<String, Object> summary = merge(shards, out, allure);
+            logger.info("✅ Merged {} shards: {}", shards.size(), summary);
+        } catch (IOException e) {
+            logger.error("❌ Failed to merge shard reports: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Merge the runs and Allure results of several shards
+     *
+     * @param shards Shard directories, whose newest journal is merged, or journal files
+     * @param outputDir Directory for the merged Allure results and summary.json
+     * @param generateAllure Whether to generate the Allure report from the merged results
+     * @return Statistics summary, also written to summary.json
+     * @throws IOException If a shard cannot be read or the output cannot be written
+     */
+    public static Map<String, Object> merge(List<Path> shards, Path outputDir, boolean generateAllure)
+            throws IOException {
+        Files.createDirectories(outputDir);
+        ShardReportMerger merger = new ShardReportMerger();
+        // Replay all shards in time order so the latest attempt of a test wins
+        List<ShardRun> runs = new ArrayList<>();
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (Path shard : shards) {
+            ShardRun run = ShardRun.of(shard);
+            runs.add(run);
+        }
+        ShardRun.assignNames(runs);
+        for (ShardRun run : runs) {
+            events.addAll(readShard(run));
+        }
+        events.sort(Comparator.comparingLong(event -> number(event.get("ts"))));
+        for (Map<String, Object> event : events) {
+            merger.apply(String.valueOf(event.get(SHARD_KEY)), event);
+        }
+
+        String reportPath = merger.writeExtentReport();
+        Path allureResults = outputDir.resolve("allure-results");
+        long allureFiles = 0;
+        for (ShardRun run : runs) {
+            allureFiles += copyAllureResults(run, allureResults);
+        }
+
+        Map<String, Object> summary = merger.summary();
+        summary.put("shards", shards.stream().map(Path::toString).collect(Collectors.toList()));
+        summary.put("journals", runs.stream()
+            .map(run -> run.journal == null ? null : run.journal.toString())
+            .collect(Collectors.toList()));
+        summary.put("extentReport", reportPath);
+        summary.put("allureResults", allureResults.toAbsolutePath().toString());
+        summary.put("allureFiles", allureFiles);
+        Files.write(outputDir.resolve("summary.json"),
+            merger.json.toJson(summary).getBytes(StandardCharsets.UTF_8));
+
+        if (generateAllure && allureFiles > 0) {
+            generateAllureReport(allureResults, outputDir.resolve("allure-report"));
+        }
+        return summary;
+    }
+
+    /**
+     * Read the journal of a shard's run
+     *
+     * @param run Shard run
+     * @return Journal events, each tagged with the shard name
+     * @throws IOException If the journal cannot be read
+     */
+    private static List<Map<String, Object>> readShard(ShardRun run) throws IOException {
+        List<Map<String, Object>> events = new ArrayList<>();
+        if (run.journal == null) {
+            logger.warn("⚠️ No result journal found in shard {}", run.root);
+            return events;
+        }
+        try (Stream<Map<String, Object>> lines = ResultJournal.read(run.journal)) {
+            lines.forEach(line -> {
+                Map<String, Object> event = new LinkedHashMap<>(line);
+                event.put(SHARD_KEY, run.name);
+                events.add(event);
+            });
+        }
+        logger.info("Read {} journal events from {} in shard {}", events.size(), run.journal, run.root);
+        return events;
+    }
+
+    /**
+     * Apply one journal event to the test it belongs to
+     *
+     * @param shard Shard name
+     * @param event Journal event
+     */
+    private void apply(String shard, Map<String, Object> event) {
+        if (event.get("class") == null || event.get("method") == null) {
+            return;
+        }
+        String key = event.get("class") + "." + event.get("method")
+            + (event.get("parameters") != null ? event.get("parameters") : "");
+        String type = String.valueOf(event.get("event"));
+        TestRecord record = records.get(key);
+
+        if ("start".equals(type)) {
+            if (record == null) {
+                record = new TestRecord(event);
+                records.put(key, record);
+            } else if (record.status != null) {
+                // Started again after a final outcome: a rerun or the same test on another shard
+                record.attempts++;
+                record.status = null;
+                record.error = null;
+                record.steps.clear();
+                duplicates++;
+            }
+            record.shard = shard;
+            record.start = Math.min(record.start, number(event.get("ts")));
+            return;
+        }
+        if (record == null) {
+            record = new TestRecord(event);
+            record.shard = shard;
+            records.put(key, record);
+        }
+        switch (type) {
+            case "step":
+                record.steps.add(event);
+                break;
+            case "retry":
+                record.attempts++;
+                record.steps.add(event);
+                break;
+            case "finish":
+                record.status = String.valueOf(event.get("status"));
+                record.error = event.get("error") != null ? String.valueOf(event.get("error")) : null;
+                record.end = number(event.get("ts"));
+                record.durationMs = number(event.get("durationMs"));
+                record.shard = shard;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Write the merged Extent report
+     *
+     * @return Path of the report
+     */
+    private String writeExtentReport() {
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        String reportPath = REPORT_DIR + "/MergedReport_" + timestamp + ".html";
+        ExtentReports reports = ExtentReportManager.createReports(reportPath);
+        reports.setSystemInfo("Shards", String.join(", ", shardNames()));
+
+        for (TestRecord record : records.values()) {
+            ExtentTest test = reports.createTest(record.method, record.description);
+            test.assignCategory(record.simpleClassName());
+            test.assignDevice(record.shard);
+            test.log(Status.INFO, "Test Started: " + record.method + " on shard " + record.shard);
+            for (Map<String, Object> step : record.steps) {
+                if ("retry".equals(step.get("event"))) {
+                    test.log(Status.WARNING, "Attempt failed and was retried: " + step.get("error"));
+                } else {
+                    test.log(toStatus(String.valueOf(step.get("status"))), String.valueOf(step.get("message")));
+                }
+            }
+            Status status = toStatus(record.status);
+            test.log(status, "Test " + (record.status != null ? record.status : "did not finish")
+                + (record.attempts > 0 ? " after " + (record.attempts + 1) + " attempts" : ""));
+            if (record.error != null && status == Status.FAIL) {
+                test.log(Status.FAIL, "Error: " + record.error);
+            }
+            test.getModel().setStartTime(new Date(record.start));
+            test.getModel().setEndTime(new Date(record.end > 0 ? record.end : record.start + record.durationMs));
+            count(record);
+        }
+        reports.flush();
+        logger.info("📊 Merged Extent report written to {}", reportPath);
+        return reportPath;
+    }
+
+    /**
+     * Build the statistics summary of the merged run
+     *
+     * @return Summary values
+     */
+    private Map<String, Object> summary() {
+        int passed = 0;
+        int failed = 0;
+        int skipped = 0;
+        int unfinished = 0;
+        int retried = 0;
+        long first = Long.MAX_VALUE;
+        long last = 0;
+        long totalDuration = 0;
+        for (TestRecord record : records.values()) {
+            String status = record.status != null ? record.status : "";
+            if (status.startsWith("PASS")) {
+                passed++;
+            } else if ("FAIL".equals(status)) {
+                failed++;
+            } else if ("SKIP".equals(status)) {
+                skipped++;
+            } else {
+                unfinished++;
+            }
+            if (record.attempts > 0) {
+                retried++;
+            }
+            first = Math.min(first, record.start);
+            last = Math.max(last, record.end);
+            totalDuration += record.durationMs;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", records.size());
+        summary.put("passed", passed);
+        summary.put("failed", failed);
+        summary.put("skipped", skipped);
+        summary.put("unfinished", unfinished);
+        summary.put("retried", retried);
+        summary.put("duplicatesResolved", duplicates);
+        summary.put("passRate", records.isEmpty() ? 0 : Math.round(passed * 1000.0 / records.size()) / 10.0);
+        summary.put("wallClockMs", last > first ? last - first : 0);
+        summary.put("totalTestTimeMs", totalDuration);
+        Map<String, Object> perShard = new LinkedHashMap<>();
+        shardCounts.forEach((shard, counts) -> perShard.put(shard,
+            Map.of("tests", counts[0], "passed", counts[1], "failed", counts[2], "durationMs", counts[3])));
+        summary.put("perShard", perShard);
+        return summary;
+    }
+
+    private void count(TestRecord record) {
+        int[] counts = shardCounts.computeIfAbsent(record.shard, shard -> new int[4]);
+        counts[0]++;
+        if (record.status != null && record.status.startsWith("PASS")) {
+            counts[1]++;
+        } else if ("FAIL".equals(record.status)) {
+            counts[2]++;
+        }
+        counts[3] += (int) record.durationMs;
+    }
+
+    private List<String> shardNames() {
+        return records.values().stream().map(record -> record.shard).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Copy the Allure result files written during a shard's run into the merged results
+     * directory. Allure groups results by their history id, so retries and duplicates
+     * collapse in the generated report.
+     *
+     * @param run Shard run
+     * @param target Merged results directory
+     * @return Number of files copied
+     * @throws IOException If a file cannot be copied
+     */
+    private static long copyAllureResults(ShardRun run, Path target) throws IOException {
+        Path shard = run.root;
+        List<Path> resultDirs = containsResults(shard) ? List.of(shard) : findDirectories(shard, "allure-results");
+        Files.createDirectories(target);
+        long copied = 0;
+        for (Path dir : resultDirs) {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).filter(run::contains)::iterator) {
+                    Path destination = target.resolve(file.getFileName());
+                    // Result and attachment files have unique names; shared files such as
+                    // environment.properties are taken from the first shard
+                    if (!Files.exists(destination)) {
+                        Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+                        copied++;
+                    }
+                }
+            }
+        }
+        logger.info("Copied {} Allure result files of the run from shard {}", copied, shard);
+        return copied;
+    }
+
+    /**
+     * Generate the Allure report from the merged results with the Allure command line
+     *
+     * @param resultsDir Merged results directory
+     * @param reportDir Report output directory
+     */
+    private static void generateAllureReport(Path resultsDir, Path reportDir) {
+        boolean windows = System.getProperty("os.name").toLowerCase().contains("windows");
+        if (!AllureReportListener.isOnPath(windows ? "allure.bat" : "allure")) {
+            logger.warn("⚠️ allure is not on the PATH, run: allure generate {} -o {} --clean", resultsDir, reportDir);
+            return;
+        }
+        List<String> command = new ArrayList<>(Arrays.asList("allure", "generate", resultsDir.toString(),
+            "-o", reportDir.toString(), "--clean"));
+        if (windows) {
+            command.addAll(0, List.of("cmd.exe", "/c"));
+        }
+        try {
+            int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (exitCode == 0) {
+                logger.info("✅ Merged Allure report generated in {}", reportDir);
+            } else {
+                logger.error("❌ Allure report generation failed with exit code {}", exitCode);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("❌ Error generating merged Allure report: {}", e.getMessage(), e);
+        }
+    }
+
+    private static boolean containsResults(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.anyMatch(file -> file.getFileName().toString().endsWith("-result.json"));
+        }
+    }
+
+    private static List<Path> find(Path root, Predicate<Path> filter) throws IOException {
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Shard directory not found: " + root);
+        }
+        try (Stream<Path> files = Files.walk(root, 4)) {
+            return files.filter(Files::isRegularFile).filter(filter).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Path> findDirectories(Path root, String name) throws IOException {
+        try (Stream<Path> dirs = Files.walk(root, 3)) {
+            return dirs.filter(Files::isDirectory)
+                .filter(dir -> dir.getFileName().toString().equals(name))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static Status toStatus(String status) {
+        if (status == null) {
+            return Status.WARNING;
+        }
+        switch (status) {
+            case "PASS":
+            case "PASS_WITHIN_PERCENTAGE":
+                return Status.PASS;
+            case "FAIL":
+                return Status.FAIL;
+            case "SKIP":
+                return Status.SKIP;
+            case "WARNING":
+                return Status.WARNING;
+            default:
+                return Status.INFO;
+        }
+    }
+
+    /**
+     * Merged state of one test method across attempts and shards
+     */
+    private static final class TestRecord {
+        private final String className;
+        private final String method;
+        private final String description;
+        private final List<Map<String, Object>> steps = new ArrayList<>();
+        private String shard;
+        private String status;
+        private String error;
+        private long start;
+        private long end;
+        private long durationMs;
+        private int attempts;
+
+        private TestRecord(Map<String, Object> event) {
+            this.className = String.valueOf(event.get("class"));
+            String name = String.valueOf(event.get("method"));
+            this.method = event.get("parameters") != null ? name + " " + event.get("parameters") : name;
+            this.description = event.get("description") != null ? String.valueOf(event.get("description")) : "";
+            this.start = number(event.get("ts"));
+        }
+
+        private String simpleClassName() {
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+    }
+
+    /**
+     * The run of one shard: its directory, the journal of the run and the time the run covers
+     */
+    private static final class ShardRun {
+        private final Path root;
+        private String name;
+        private final Path journal;
+        private final long from;
+        private final long until;
+
+        private ShardRun(Path root, Path journal, long from, long until) {
+            this.root = root.toAbsolutePath().normalize();
+            this.name = this.root.getFileName() != null ? this.root.getFileName().toString() : this.root.toString();
+            this.journal = journal;
+            this.from = from;
+            this.until = until;
+        }
+
+        /**
+         * Name the shards by their path relative to the common parent of all shards, so that
+         * nodeA/workspace and nodeB/workspace stay apart; names that still collide, e.g. two
+         * journals of one shard, get a numeric suffix
+         *
+         * @param runs Runs of all shards
+         */
+        private static void assignNames(List<ShardRun> runs) {
+            Path common = runs.isEmpty() ? null : runs.get(0).root.getParent();
+            for (ShardRun run : runs) {
+                Path parent = run.root.getParent();
+                while (common != null && (parent == null || !parent.startsWith(common))) {
+                    common = common.getParent();
+                }
+            }
+            Map<String, Integer> used = new HashMap<>();
+            for (ShardRun run : runs) {
+                String name = common != null && !run.root.equals(common)
+                    ? common.relativize(run.root).toString().replace('\\', '/')
+                    : run.name;
+                int count = used.merge(name, 1, Integer::sum);
+                run.name = count == 1 ? name : name + "#" + count;
+            }
+        }
+
+        /**
+         * Resolve a shard argument: a directory stands for its newest journal, a journal file
+         * for the run that wrote it. The run lasts until the next journal of the shard starts.
+         *
+         * @param shard Shard directory or journal file
+         * @return Shard run
+         * @throws IOException If the shard cannot be read
+         */
+        private static ShardRun of(Path shard) throws IOException {
+            Path root = shard;
+            Path journal = null;
+            if (Files.isRegularFile(shard)) {
+                journal = shard;
+                root = shardRoot(shard);
+            }
+            List<Path> journals = find(root, path -> path.getFileName().toString().endsWith(".jsonl"));
+            journals.sort(Comparator.comparingLong(ShardRun::startOf).thenComparing(Path::toString));
+            if (journal == null) {
+                journal = journals.isEmpty() ? null : journals.get(journals.size() - 1);
+                if (journals.size() > 1) {
+                    logger.info("Shard {} has {} journals, merging the newest: {}", shard, journals.size(), journal);
+                }
+            }
+            if (journal == null) {
+                return new ShardRun(root, null, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            long from = startOf(journal);
+            long until = Long.MAX_VALUE;
+            for (Path other : journals) {
+                long start = startOf(other);
+                if (start > from && !other.equals(journal)) {
+                    until = Math.min(until, start);
+                }
+            }
+            return new ShardRun(root, journal, from - RUN_GRACE_MILLIS, until);
+        }
+
+        /**
+         * Check whether a file was written during the run
+         *
+         * @param file File of the shard
+         * @return true if its modification time falls within the run
+         */
+        private boolean contains(Path file) {
+            try {
+                long modified = Files.getLastModifiedTime(file).toMillis();
+                return modified >= from && modified < until;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Start of the run that wrote a journal, from its name or else its modification time
+         */
+        private static long startOf(Path journal) {
+            String fileName = journal.getFileName().toString();
+            if (fileName.startsWith(JOURNAL_PREFIX)) {
+                try {
+                    return new SimpleDateFormat(JOURNAL_TIME_FORMAT)
+                        .parse(fileName.substring(JOURNAL_PREFIX.length(), fileName.length() - ".jsonl".length()))
+                        .getTime();
+                } catch (ParseException | IndexOutOfBoundsException e) {
+                    // Not written by ResultJournal; fall back to the file time
+                }
+            }
+            try {
+                return Files.getLastModifiedTime(journal).toMillis();
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * Shard directory of a journal file: the nearest ancestor holding allure-results,
+         * else the directory above test-output/journal
+         */
+        private static Path shardRoot(Path journal) {
+            Path dir = journal.toAbsolutePath().normalize().getParent();
+            for (Path candidate = dir; candidate != null && candidate.getNameCount() >= dir.getNameCount() - 3;
+                    candidate = candidate.getParent()) {
+                if (Files.isDirectory(candidate.resolve("allure-results"))) {
+                    return candidate;
+                }
+            }
+            Path parent = dir.getParent();
+            return parent != null && parent.getParent() != null && "test-output".equals(parent.getFileName().toString())
+                ? parent.getParent() : dir;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package generic;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+
+/**
+ * Binary cache of parsed Excel sheets.
+ *
+ * The first read of a sheet streams it from {@link ExcelStreamReader} and writes each row to
+ * a cache file as it passes, in a ".sheet-cache" directory next to the workbook, named after
+ * the sheet and the SHA-256 of the workbook content; the file is only kept when the stream was
+ * read to the end. Later reads of an unchanged workbook memory-map that file and decode each
+ * row when it is taken, instead of parsing the workbook again; editing the workbook changes
+ * the hash, and the stale file is replaced on the next read.
+ *
+ * File layout: magic, version, column count, headers with their columns, row count, the rows
+ * (row number and one string index per column), the string count, one offset per string and
+ * the strings. Repeated cell values are stored once, up to {@link #MAX_DEDUPLICATED} of them.
+ * Enabled with "excel.cache.enabled" (default true).
+ */
+public final class SheetCache {
+    private static final Logger logger = LoggerUtil.getLogger(SheetCache.class);
+
+    private static final int MAGIC = 0x53484354; // "SHCT"
+    private static final int VERSION = 2;
+    private static final String CACHE_DIR = ".sheet-cache";
+    private static final String FIRST_SHEET = "#first";
+    // Bounds the memory used to find repeated values while writing
+    private static final int MAX_DEDUPLICATED = 65_536;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SheetCache() {
+    }
+
+    /**
+     * Stream the data rows of a sheet, from the cache when the workbook is unchanged.
+     * The stream must be closed, e.g. with try-with-resources.
+     *
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet, or null for the first sheet
+     * @return Lazy stream of rows
+     * @throws IOException If the workbook cannot be read
+     */
+    public static Stream<ExcelRow> stream(String filePath, String sheetName) throws IOException {
+        if (!Config.getBoolean("excel.cache.enabled", true)) {
+            return ExcelStreamReader.stream(filePath, sheetName);
+        }
+        Path workbook = new File(filePath).toPath();
+        Path cacheFile = cacheFile(workbook, sheetName, hash(workbook));
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                return read(cacheFile);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("⚠️ Ignoring unreadable sheet cache {}: {}", cacheFile, e.getMessage());
+                Files.deleteIfExists(cacheFile);
+            }
+        }
+        Stream<ExcelRow> rows = ExcelStreamReader.stream(filePath, sheetName);
+        Writer writer;
+        try {
+            writer = new Writer(cacheFile, filePath, sheetName);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("⚠️ Could not cache sheet {} of {}: {}", label(sheetName), filePath, e.getMessage());
+            return rows;
+        }
+        Iterator<ExcelRow> source = rows.iterator();
+        Iterator<ExcelRow> teed = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (source.hasNext()) {
+                    return true;
+                }
+                writer.finish();
+                return false;
+            }
+
+            @Override
+            public ExcelRow next() {
+                ExcelRow row = source.next();
+                writer.add(row);
+                return row;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(teed, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                writer.abort();
+                rows.close();
+            });
+    }
+
+    /**
+     * Stream the rows of a cache file through a read-only memory mapping. Only the header is
+     * read up front; each row and its cells are decoded when the row is taken.
+     *
+     * @param cacheFile Cache file
+     * @return Lazy stream of rows
+     * @throws IOException If the file cannot be mapped or is not a cache file
+     */
+    private static Stream<ExcelRow> read(Path cacheFile) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a sheet cache file of version " + VERSION);
+        }
+        int columns = buffer.getInt();
+        int headers = buffer.getInt();
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (int i = 0; i < headers; i++) {
+            index.put(readString(buffer), buffer.getInt());
+        }
+        Map<String, Integer> header = Collections.unmodifiableMap(index);
+        int rowCount = buffer.getInt();
+        int rowsStart = buffer.position();
+        int rowSize = 4 + 4 * columns;
+        int stringCount = buffer.getInt(rowsStart + rowCount * rowSize);
+        int offsetsStart = rowsStart + rowCount * rowSize + 4;
+        int stringsStart = offsetsStart + 4 * stringCount;
+        if (stringsStart > buffer.limit()) {
+            throw new IOException("Truncated sheet cache file");
+        }
+
+        Iterator<ExcelRow> rows = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return read < rowCount;
+            }
+
+            @Override
+            public ExcelRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int position = rowsStart + read * rowSize;
+                read++;
+                String[] values = new String[columns];
+                for (int i = 0; i < columns; i++) {
+                    int string = buffer.getInt(position + 4 + 4 * i);
+                    values[i] = decode(buffer, stringsStart + buffer.getInt(offsetsStart + 4 * string));
+                }
+                return new ExcelRow(header, values, buffer.getInt(position));
+            }
+        };
+        logger.debug("Reading {} cached rows from {}", rowCount, cacheFile);
+        return StreamSupport.stream(Spliterators.spliterator(rows, rowCount,
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED), false);
+    }
+
+    /**
+     * Decode a length-prefixed UTF-8 string at an absolute position of the buffer
+     *
+     * @param buffer Mapped cache file
+     * @param position Position of the length
+     * @return Decoded string
+     */
+    private static String decode(ByteBuffer buffer, int position) {
+        byte[] bytes = new byte[buffer.getInt(position)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(position + 4 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * SHA-256 of the workbook content, read through a memory mapping
+     *
+     * @param workbook Workbook file
+     * @return Hex digest
+     * @throws IOException If the file cannot be read
+     */
+    private static String hash(Path workbook) throws IOException {
+        try (FileChannel channel = FileChannel.open(workbook, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Path cacheFile(Path workbook, String sheetName, String hash) {
+        return workbook.toAbsolutePath().getParent().resolve(CACHE_DIR)
+            .resolve(prefix(workbook, sheetName) + hash.substring(0, 16) + ".bin");
+    }
+
+    private static String prefix(Path workbook, String sheetName) {
+        String sheet = sheetName == null ? FIRST_SHEET : sheetName;
+        return (workbook.getFileName() + "_" + sheet).replaceAll("[^A-Za-z0-9#._-]", "_") + "_";
+    }
+
+    /**
+     * Delete the caches of the same workbook and sheet written for other workbook versions
+     *
+     * @param current Cache file just written
+     */
+    private static void removeStale(Path current) {
+        String name = current.getFileName().toString();
+        String prefix = name.substring(0, name.length() - "0123456789abcdef.bin".length());
+        try (Stream<Path> files = Files.list(current.getParent())) {
+            files.filter(file -> !file.equals(current))
+                .filter(file -> {
+                    String other = file.getFileName().toString();
+                    return other.startsWith(prefix) && other.length() == name.length();
+                })
+                .forEach(file -> {
+                    try {
+                        Files.delete(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        } catch (IOException | UncheckedIOException e) {
+            logger.debug("Could not remove stale sheet caches: {}", e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the rows of a stream to a new cache file as they pass. Rows, string offsets and
+     * strings go to temporary files first because their counts are only known at the end; {@link #finish()}
+     * assembles the cache file and moves it into place, {@link #abort()} discards it.
+     */
+    private static final class Writer {
+        private final Path cacheFile;
+        private final String filePath;
+        private final String sheetName;
+        private final long start = System.currentTimeMillis();
+        private final Path rowsFile;
+        private final Path offsetsFile;
+        private final Path stringsFile;
+        private final DataOutputStream rows;
+        private final DataOutputStream offsets;
+        private final DataOutputStream strings;
+        private final Map<String, Integer> seen = new HashMap<>();
+        private Map<String, Integer> header = Collections.emptyMap();
+        private int columns;
+        private int rowCount;
+        private int stringCount;
+        private int stringBytes;
+        private boolean done;
+
+        private Writer(Path cacheFile, String filePath, String sheetName) throws IOException {
+            this.cacheFile = cacheFile;
+            this.filePath = filePath;
+            this.sheetName = sheetName;
+            Files.createDirectories(cacheFile.getParent());
+            rowsFile = Files.createTempFile(cacheFile.getParent(), "rows", ".tmp");
+            offsetsFile = Files.createTempFile(cacheFile.getParent(), "offsets", ".tmp");
+            stringsFile = Files.createTempFile(cacheFile.getParent(), "strings", ".tmp");
+            rows = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(rowsFile)));
+            offsets = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(offsetsFile)));
+            strings = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(stringsFile)));
+        }
+
+        /**
+         * Append a row; a write failure gives up caching without affecting the stream
+         *
+         * @param row Row passing through the stream
+         */
+        private void add(ExcelRow row) {
+            if (done) {
+                return;
+            }
+            try {
+                if (rowCount == 0) {
+                    header = row.header();
+                    columns = row.width();
+                }
+                rows.writeInt(row.getRowNumber());
+                for (int i = 0; i < columns; i++) {
+                    rows.writeInt(intern(row.get(i)));
+                }
+                rowCount++;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("⚠️ Could not cache sheet {} of {}: {}", label(sheetName), filePath, e.getMessage());
+                abort();
+            }
+        }
+
+        /**
+         * Get the index of a string, writing it to the string area when it is new
+         */
+        private int intern(String value) throws IOException {
+            Integer known = seen.get(value);
+            if (known != null) {
+                return known;
+            }
+            int index = stringCount++;
+            if (seen.size() < MAX_DEDUPLICATED) {
+                seen.put(value, index);
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            strings.writeInt(bytes.length);
+            strings.write(bytes);
+            offsets.writeInt(stringBytes);
+            stringBytes += 4 + bytes.length;
+            return index;
+        }
+
+        /**
+         * The stream was read to the end: write the cache file and move it into place
+         */
+        private void finish() {
+            if (done) {
+                return;
+            }
+            done = true;
+            Path tempFile = null;
+            try {
+                closeAll();
+                tempFile = Files.createTempFile(cacheFile.getParent(), "sheet", ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeInt(columns);
+                    out.writeInt(header.size());
+                    for (Map.Entry<String, Integer> column : header.entrySet()) {
+                        writeString(out, column.getKey());
+                        out.writeInt(column.getValue());
+                    }
+                    out.writeInt(rowCount);
+                    Files.copy(rowsFile, out);
+                    out.writeInt(stringCount);
+                    Files.copy(offsetsFile, out);
+                    Files.copy(stringsFile, out);
+                }
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                removeStale(cacheFile);
+                logger.info("Cached {} rows of sheet {} from {} in {} ms", rowCount, label(sheetName), filePath,
+                    System.currentTimeMillis() - start);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("⚠️ Could not cache sheet {} of {}: {}", label(sheetName), filePath, e.getMessage());
+            } finally {
+                deleteQuietly(tempFile);
+                deleteTemporaryFiles();
+            }
+        }
+
+        /**
+         * The stream was closed early or writing failed: discard the partial cache
+         */
+        private void abort() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                closeAll();
+            } catch (IOException e) {
+                // Files are deleted below
+            }
+            deleteTemporaryFiles();
+        }
+
+        private void closeAll() throws IOException {
+            try (DataOutputStream r = rows; DataOutputStream o = offsets; DataOutputStream s = strings) {
+                // Closing the streams flushes them
+            }
+        }
+
+        private void deleteTemporaryFiles() {
+            deleteQuietly(rowsFile);
+            deleteQuietly(offsetsFile);
+            deleteQuietly(stringsFile);
+        }
+
+        private static void deleteQuietly(Path file) {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.debug("Could not delete {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static String label(String sheetName) {
+        return sheetName == null ? "(first)" : "'" + sheetName + "'";
+    }
+}
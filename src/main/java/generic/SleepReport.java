@@ -0,0 +1,133 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+/**
+ * Build-time report of the fixed sleeps left in the source tree.
+ *
+ * Scans src/main/java and src/test/java for Thread.sleep(n) and waitFor(n) calls with a
+ * literal duration and writes each occurrence plus the per-file and total cost to
+ * test-output/sleep-report.txt. Run with:
+ * mvn exec:java -Dexec.mainClass="generic.SleepReport"
+ */
+public class SleepReport {
+    private static final Logger logger = LoggerUtil.getLogger(SleepReport.class);
+
+    private static final Pattern SLEEP_PATTERN = Pattern.compile("(Thread\\.sleep|\\bwaitFor)\\(\\s*(\\d+)L?\\s*\\)");
+    private static final String[] SOURCE_ROOTS = { "src/main/java", "src/test/java" };
+    private static final String REPORT_PATH = "test-output/sleep-report.txt";
+
+    public static void main(String[] args) {
+        try {
+            List<SleepCall> sleeps = new ArrayList<>();
+            for (String root : SOURCE_ROOTS) {
+                sleeps.addAll(scan(Paths.get(root)));
+            }
+            String report = format(sleeps);
+            new File(REPORT_PATH).getParentFile().mkdirs();
+            Files.write(Paths.get(REPORT_PATH), report.getBytes(StandardCharsets.UTF_8));
+            System.out.println(report);
+            logger.info("Sleep report written to {}", REPORT_PATH);
+        } catch (IOException e) {
+            logger.error("Failed to generate sleep report: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Find all fixed sleeps under a source root
+     *
+     * @param root Source root directory
+     * @return Sleep calls found
+     * @throws IOException If a source file cannot be read
+     */
+    public static List<SleepCall> scan(Path root) throws IOException {
+        List<SleepCall> sleeps = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return sleeps;
+        }
+        List<Path> sources;
+        try (Stream<Path> files = Files.walk(root)) {
+            sources = files.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        for (Path source : sources) {
+            // The report contains the pattern in its own source
+            if (source.endsWith("SleepReport.java")) {
+                continue;
+            }
+            List<String> lines = Files.readAllLines(source, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.trim().startsWith("//") || line.trim().startsWith("*")) {
+                    continue;
+                }
+                Matcher matcher = SLEEP_PATTERN.matcher(line);
+                while (matcher.find()) {
+                    sleeps.add(new SleepCall(source.toString(), i + 1, Long.parseLong(matcher.group(2))));
+                }
+            }
+        }
+        return sleeps;
+    }
+
+    /**
+     * Format the sleep calls as a plain-text report
+     *
+     * @param sleeps Sleep calls to report
+     * @return Report text
+     */
+    private static String format(List<SleepCall> sleeps) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Fixed sleep report\n");
+        sb.append("==================\n\n");
+        String currentFile = null;
+        long fileTotal = 0;
+        long total = 0;
+        for (SleepCall sleep : sleeps) {
+            if (!sleep.file.equals(currentFile)) {
+                if (currentFile != null) {
+                    sb.append("  subtotal: ").append(fileTotal).append(" ms\n\n");
+                }
+                currentFile = sleep.file;
+                fileTotal = 0;
+                sb.append(currentFile).append("\n");
+            }
+            sb.append("  line ").append(sleep.line).append(": ").append(sleep.millis).append(" ms\n");
+            fileTotal += sleep.millis;
+            total += sleep.millis;
+        }
+        if (currentFile != null) {
+            sb.append("  subtotal: ").append(fileTotal).append(" ms\n\n");
+        }
+        sb.append("Total: ").append(sleeps.size()).append(" fixed sleeps, ")
+          .append(total).append(" ms per pass through every call site\n");
+        return sb.toString();
+    }
+
+    /**
+     * A single fixed sleep call site
+     */
+    public static class SleepCall {
+        final String file;
+        final int line;
+        final long millis;
+
+        SleepCall(String file, int line, long millis) {
+            this.file = file;
+            this.line = line;
+            this.millis = millis;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package generic;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Page conditions that a POM action can wait for instead of sleeping a fixed time.
+ * Used through {@link BasePage#waitUntil(SmartWait...)} and {@link BasePage#clickAndWait}.
+ *
+ * Every condition is evaluated with a single script call per poll, so it is not
+ * affected by the implicit wait configured on the driver. DOM_QUIESCENT resolves inside
+ * the page, so it usually needs only one call in total.
+ */
+public enum SmartWait {
+
+    /**
+     * document.readyState is "complete"
+     */
+    PAGE_LOADED {
+        @Override
+        public ExpectedCondition<Boolean> condition() {
+            return driver -> "complete".equals(script(driver, "return document.readyState"));
+        }
+    },
+
+    /**
+     * No DOM mutation has happened for the quiet period (see {@link #domStable(long)})
+     */
+    DOM_QUIESCENT {
+        @Override
+        public ExpectedCondition<Boolean> condition() {
+            return domStable(QUIET_MILLIS);
+        }
+    },
+
+    /**
+     * No loading spinner or loader overlay is rendered
+     */
+    SPINNER_GONE {
+        @Override
+        public ExpectedCondition<Boolean> condition() {
+            return driver -> Boolean.TRUE.equals(script(driver,
+                "var nodes = document.querySelectorAll(\"[class*='spinner'],[class*='Spinner'],"
+                + "[class*='loader'],[class*='Loader'],[class*='loading'],[class*='Loading']\");"
+                + "for (var i = 0; i < nodes.length; i++) {"
+                + "  var rect = nodes[i].getBoundingClientRect();"
+                + "  if (rect.width > 0 && rect.height > 0 && getComputedStyle(nodes[i]).visibility !== 'hidden') return false;"
+                + "}"
+                + "return true;"));
+        }
+    },
+
+    /**
+     * A toast message is displayed
+     */
+    TOAST_VISIBLE {
+        @Override
+        public ExpectedCondition<Boolean> condition() {
+            return driver -> Boolean.TRUE.equals(script(driver,
+                "var toast = document.querySelector('.customToastContent');"
+                + "if (!toast) return false;"
+                + "var rect = toast.getBoundingClientRect();"
+                + "return rect.width > 0 && rect.height > 0;"));
+        }
+    },
+
+    /**
+     * No XHR/fetch request has been in flight for the quiet period.
+     * Uses the session's {@link NetworkTracker} when one is attached, otherwise the
+     * page's resource timing entries.
+     */
+    NETWORK_IDLE {
+        @Override
+        public ExpectedCondition<Boolean> condition() {
+            QuietCondition resourceTiming = new QuietCondition(
+                "return document.readyState === 'complete' ? performance.getEntriesByType('resource').length : -1");
+            return driver -> {
+                NetworkTracker tracker = NetworkTracker.get(driver);
+                return tracker != null ? tracker.isIdle(QUIET_MILLIS) : resourceTiming.apply(driver);
+            };
+        }
+    };
+
+    // Time a QuietCondition value has to stay unchanged
+    static final long QUIET_MILLIS = 500;
+
+    // Longest time one in-page observation may run; must stay below the driver's script timeout
+    private static final long OBSERVATION_SLICE_MILLIS = 5000;
+
+    // Resolves true once no mutation was seen for arguments[0] ms, false after arguments[1] ms
+    private static final String DOM_STABLE_SCRIPT =
+        "var quiet = arguments[0], max = arguments[1], done = arguments[arguments.length - 1];"
+        + "var finished = false, quietTimer, limitTimer, observer;"
+        + "function finish(stable) {"
+        + "  if (finished) return;"
+        + "  finished = true;"
+        + "  observer.disconnect(); clearTimeout(quietTimer); clearTimeout(limitTimer);"
+        + "  done(stable);"
+        + "}"
+        + "observer = new MutationObserver(function () {"
+        + "  clearTimeout(quietTimer);"
+        + "  quietTimer = setTimeout(function () { finish(true); }, quiet);"
+        + "});"
+        + "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+        + "quietTimer = setTimeout(function () { finish(true); }, quiet);"
+        + "limitTimer = setTimeout(function () { finish(false); }, max);";
+
+    /**
+     * Condition that installs a MutationObserver with one executeAsyncScript call and resolves
+     * inside the page once the DOM has been still for the quiet period. A busy page is observed
+     * again in further slices until the surrounding wait times out.
+     *
+     * @param quietMillis Time without DOM mutations required
+     * @return ExpectedCondition that is true once the DOM is stable
+     */
+    public static ExpectedCondition<Boolean> domStable(long quietMillis) {
+        long slice = Math.max(OBSERVATION_SLICE_MILLIS, quietMillis * 2);
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                try {
+                    return Boolean.TRUE.equals(
+                        ((JavascriptExecutor) driver).executeAsyncScript(DOM_STABLE_SCRIPT, quietMillis, slice));
+                } catch (JavascriptException | ScriptTimeoutException e) {
+                    // Page navigated or unloaded while observing; observe the new document next poll
+                    return false;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "DOM to stay free of mutations for " + quietMillis + " ms";
+            }
+        };
+    }
+
+    /**
+     * Create a fresh condition instance; stateful conditions must not be shared between waits
+     *
+     * @return ExpectedCondition that is true once the page is in this state
+     */
+    public abstract ExpectedCondition<Boolean> condition();
+
+    /**
+     * Execute a script on the driver
+     *
+     * @param driver WebDriver instance
+     * @param script JavaScript to run
+     * @return Script result
+     */
+    private static Object script(WebDriver driver, String script) {
+        return ((JavascriptExecutor) driver).executeScript(script);
+    }
+
+    /**
+     * Condition that is true once a script value has not changed for {@link #QUIET_MILLIS}
+     */
+    private static final class QuietCondition implements ExpectedCondition<Boolean> {
+        private final String script;
+        private Object lastValue;
+        private long stableSince;
+
+        private QuietCondition(String script) {
+            this.script = script;
+        }
+
+        @Override
+        public Boolean apply(WebDriver driver) {
+            Object value = script(driver, script);
+            long now = System.currentTimeMillis();
+            if (lastValue == null || !lastValue.equals(value) || "-1".equals(String.valueOf(value))) {
+                lastValue = value;
+                stableSince = now;
+                return false;
+            }
+            return now - stableSince >= QUIET_MILLIS;
+        }
+
+        @Override
+        public String toString() {
+            return "value of [" + script + "] to stay unchanged for " + QUIET_MILLIS + " ms";
+        }
+    }
+}
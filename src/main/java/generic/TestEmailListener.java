@@ -57,6 +57,9 @@ public class TestEmailListener implements ISuiteListener {
             logger.info("Test Statistics - Total: {}, Passed: {}, Failed: {}, Skipped: {}, Duration: {}", 
                 stats.totalTests, stats.passedTests, stats.failedTests, stats.skippedTests, formattedDuration);
             
+            // The report must be complete before it is attached, whatever the listener order
+            ReportFlushListener.finishReport();
+            
             // Find latest test report
             String latestReport = emailReporter.findLatestTestReport();
             if (latestReport == null) {
@@ -1,34 +1,34 @@
 package generic;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.util.Properties;
-
+/**
+ * Access to the framework settings, backed by the cached {@link Config} service
+ */
 public class Test_DataByPropertyFILE implements Framework_Constants
 {
-	public static FileInputStream fis;
-	
+	/**
+	 * Get a setting from the configuration layers
+	 * 
+	 * @param key Setting key
+	 * @return Configured value, or null if the key is not configured
+	 */
 	public static String getData(String key)
 	{
-		try {
-			String projectPath = System.getProperty("user.dir");
-			fis = new FileInputStream(projectPath + "/" + PROPERTY_PATH);
-		} catch (FileNotFoundException e) {
-			System.err.println("Error: Could not find properties file at: " + System.getProperty("user.dir") + "/" + PROPERTY_PATH);
-			e.printStackTrace();
-		}
-		Properties prop = new Properties();
-		try {
-			prop.load(fis);
-		} catch (IOException e) {
-			System.err.println("Error: Could not load properties file");
-			e.printStackTrace();
-		}
-		String value = prop.getProperty(key);
+		String value = Config.get(key);
 		if (value == null) {
 			System.err.println("Warning: Property '" + key + "' not found in properties file");
 		}
 		return value;
 	}
+	
+	/**
+	 * Get a setting, preferring a system property (-Dkey=value) over the properties file
+	 * 
+	 * @param key Setting key
+	 * @param defaultValue Value used when the key is not configured anywhere
+	 * @return Configured value or the default
+	 */
+	public static String getData(String key, String defaultValue)
+	{
+		return Config.get(key, defaultValue);
+	}
 }
@@ -0,0 +1,331 @@
+package generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Splits the time of every test into waiting, sleeping, interacting, login/logout and
+ * reporting, plus whatever is left as other.
+ *
+ * Framework code marks what it is doing with {@link #begin(Category)}. Only the outermost
+ * activity of a thread is counted, so the element lookups a wait polls with count as waiting
+ * and the waits inside login count as login. {@link TimeAccountListener} assigns the time of
+ * each thread to the test it runs, from its @BeforeMethod to the start of the next test, and
+ * {@link #publish()} writes a league table of the tests that spend the most time blocked.
+ * Configured through:
+ *
+ *   time.accounting.enabled=true
+ *   timing.dir=test-output/timings
+ */
+public final class TimeAccount {
+    private static final Logger logger = LoggerUtil.getLogger(TimeAccount.class);
+
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(Test_DataByPropertyFILE.getData("time.accounting.enabled", "true"));
+    private static final int REPORT_ROWS = 15;
+    private static final Category[] CATEGORIES = Category.values();
+    // Slot after the categories holds the elapsed time of the test
+    private static final int ELAPSED = CATEGORIES.length;
+
+    /**
+     * What a test thread is spending its time on
+     */
+    public enum Category {
+        WAITING("Waiting"),
+        SLEEPING("Sleeping"),
+        INTERACTING("Interacting"),
+        LOGIN("Login/logout"),
+        REPORTING("Reporting");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * A running activity; closing it books its time
+     */
+    public interface Activity extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Activity NOT_COUNTED = () -> { };
+
+    private static final Map<String, long[]> totals = new ConcurrentHashMap<>();
+    private static final Set<Ledger> ledgers = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Ledger> ledger = ThreadLocal.withInitial(() -> {
+        Ledger created = new Ledger();
+        ledgers.add(created);
+        return created;
+    });
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private TimeAccount() {
+    }
+
+    /**
+     * Check whether time accounting is enabled
+     *
+     * @return true if "time.accounting.enabled" is set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start an activity on the current thread. Use with try-with-resources; an activity
+     * started while another one is running is part of the outer one and not counted again.
+     *
+     * @param category What the thread is doing
+     * @return Activity to close when done
+     */
+    public static Activity begin(Category category) {
+        if (!ENABLED) {
+            return NOT_COUNTED;
+        }
+        Ledger current = ledger.get();
+        if (current.busy) {
+            return NOT_COUNTED;
+        }
+        current.busy = true;
+        long start = System.nanoTime();
+        return () -> {
+            current.nanos[category.ordinal()] += System.nanoTime() - start;
+            current.busy = false;
+        };
+    }
+
+    /**
+     * Sleep for a fixed time, booked as sleeping
+     *
+     * @param milliseconds Time to sleep
+     * @throws InterruptedException If the thread is interrupted
+     */
+    public static void sleep(long milliseconds) throws InterruptedException {
+        try (Activity activity = begin(Category.SLEEPING)) {
+            Thread.sleep(milliseconds);
+        }
+    }
+
+    /**
+     * A @BeforeMethod is about to run: close the previous test of this thread, and start
+     * collecting time for the next one
+     */
+    static void beforeMethodStarting() {
+        Ledger current = ledger.get();
+        if (current.owner != null) {
+            fold(current);
+        } else if (!current.pending) {
+            current.reset();
+        }
+        current.pending = true;
+    }
+
+    /**
+     * A test method is about to run: the time collected since its @BeforeMethod belongs to it
+     *
+     * @param result Result of the starting test
+     */
+    static void testStarting(ITestResult result) {
+        Ledger current = ledger.get();
+        if (current.owner != null) {
+            fold(current);
+        } else if (!current.pending) {
+            current.reset();
+        }
+        current.pending = false;
+        current.owner = result.getTestClass().getName() + "." + ExtentReportManager.testName(result);
+    }
+
+    /**
+     * Class or suite level configuration is about to run: close the previous test of this thread
+     */
+    static void classLevelStarting() {
+        Ledger current = ledger.get();
+        if (current.owner != null) {
+            fold(current);
+        }
+        current.pending = false;
+    }
+
+    /**
+     * Close the open tests of all threads and add the league table to the Extent report and
+     * the timings directory
+     */
+    public static void publish() {
+        if (!ENABLED) {
+            return;
+        }
+        // The test threads are done by now; their last tests are still open
+        for (Ledger open : ledgers) {
+            if (open.owner != null) {
+                fold(open);
+            }
+        }
+        if (totals.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, long[]>> rows = new ArrayList<>(totals.entrySet());
+        rows.sort(Comparator.comparingLong((Map.Entry<String, long[]> row) -> blocked(row.getValue())).reversed());
+        long[] suite = new long[ELAPSED + 1];
+        for (Map.Entry<String, long[]> row : rows) {
+            for (int i = 0; i <= ELAPSED; i++) {
+                suite[i] += row.getValue()[i];
+            }
+        }
+
+        ExtentTest test = ExtentReportManager.getTest(TimeAccount.class.getName(), "Time Accounting",
+            "Where the suite spends its time, worst blocked tests first");
+        ReportBus.log(test, Status.INFO, MarkupHelper.createTable(table(suite, rows)));
+        ExtentReportManager.completeTest(TimeAccount.class.getName(), "Time Accounting");
+        logger.info("⏱️ Suite time: {}", describe(suite));
+        for (Map.Entry<String, long[]> row : rows.subList(0, Math.min(5, rows.size()))) {
+            logger.info("⏱️ {}: {}", row.getKey(), describe(row.getValue()));
+        }
+
+        Map<String, Object> artifact = new LinkedHashMap<>();
+        artifact.put("suite", toMap(suite));
+        Map<String, Object> tests = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> row : rows) {
+            tests.put(row.getKey(), toMap(row.getValue()));
+        }
+        artifact.put("tests", tests);
+        try {
+            File dir = new File(Test_DataByPropertyFILE.getData("timing.dir", "test-output/timings"));
+            dir.mkdirs();
+            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+            File file = new File(dir, "time-accounting_" + timestamp + ".json");
+            Files.write(file.toPath(), new Json().toJson(artifact).getBytes(StandardCharsets.UTF_8));
+            logger.info("⏱️ Time accounting written to {}", file.getPath());
+        } catch (IOException e) {
+            logger.error("❌ Failed to write time accounting: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Add the time of a thread's finished test to the totals and start a fresh ledger
+     *
+     * @param finished Ledger of the thread
+     */
+    private static void fold(Ledger finished) {
+        long[] sums = totals.computeIfAbsent(finished.owner, key -> new long[ELAPSED + 1]);
+        synchronized (sums) {
+            for (int i = 0; i < ELAPSED; i++) {
+                sums[i] += finished.nanos[i];
+            }
+            sums[ELAPSED] += System.nanoTime() - finished.startedAt;
+        }
+        finished.reset();
+    }
+
+    private static long blocked(long[] times) {
+        return times[Category.WAITING.ordinal()] + times[Category.SLEEPING.ordinal()];
+    }
+
+    private static long other(long[] times) {
+        long accounted = 0;
+        for (int i = 0; i < ELAPSED; i++) {
+            accounted += times[i];
+        }
+        return Math.max(0, times[ELAPSED] - accounted);
+    }
+
+    /**
+     * Render the league table, with the suite totals as the first row
+     *
+     * @param suite Suite totals
+     * @param rows Tests, worst blocked first
+     * @return Table cells including the header row
+     */
+    private static String[][] table(long[] suite, List<Map.Entry<String, long[]>> rows) {
+        int size = Math.min(REPORT_ROWS, rows.size());
+        String[][] cells = new String[size + 2][];
+        List<String> header = new ArrayList<>(List.of("Test", "Total s"));
+        for (Category category : CATEGORIES) {
+            header.add(category.label + " s");
+        }
+        header.add("Other s");
+        header.add("Blocked %");
+        cells[0] = header.toArray(new String[0]);
+        cells[1] = row("Whole suite", suite);
+        for (int i = 0; i < size; i++) {
+            cells[i + 2] = row(rows.get(i).getKey(), rows.get(i).getValue());
+        }
+        return cells;
+    }
+
+    private static String[] row(String name, long[] times) {
+        List<String> cells = new ArrayList<>(List.of(name, seconds(times[ELAPSED])));
+        for (int i = 0; i < ELAPSED; i++) {
+            cells.add(seconds(times[i]));
+        }
+        cells.add(seconds(other(times)));
+        cells.add(String.valueOf(times[ELAPSED] == 0 ? 0 : Math.round(blocked(times) * 100.0 / times[ELAPSED])));
+        return cells.toArray(new String[0]);
+    }
+
+    private static String describe(long[] times) {
+        StringBuilder sb = new StringBuilder(seconds(times[ELAPSED])).append("s total");
+        for (Category category : CATEGORIES) {
+            sb.append(", ").append(category.label.toLowerCase()).append(' ')
+                .append(seconds(times[category.ordinal()])).append('s');
+        }
+        return sb.append(", other ").append(seconds(other(times))).append('s').toString();
+    }
+
+    private static Map<String, Object> toMap(long[] times) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("totalMs", times[ELAPSED] / 1_000_000);
+        for (Category category : CATEGORIES) {
+            values.put(category.name().toLowerCase() + "Ms", times[category.ordinal()] / 1_000_000);
+        }
+        values.put("otherMs", other(times) / 1_000_000);
+        return values;
+    }
+
+    private static String seconds(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Time booked by one thread since its current test started
+     */
+    private static final class Ledger {
+        private final long[] nanos = new long[ELAPSED];
+        private long startedAt = System.nanoTime();
+        private String owner;
+        private boolean pending;
+        private boolean busy;
+
+        private void reset() {
+            Arrays.fill(nanos, 0);
+            startedAt = System.nanoTime();
+            owner = null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package generic;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * Tells {@link TimeAccount} which test a thread is working for.
+ *
+ * The time of a test runs from its first @BeforeMethod, so login is included, through its
+ * @AfterMethod cleanup until the thread starts the next test or class level configuration.
+ */
+public class TimeAccountListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!TimeAccount.isEnabled()) {
+            return;
+        }
+        ITestNGMethod invoked = method.getTestMethod();
+        if (method.isTestMethod()) {
+            TimeAccount.testStarting(testResult);
+        } else if (invoked.isBeforeMethodConfiguration()) {
+            TimeAccount.beforeMethodStarting();
+        } else if (!invoked.isAfterMethodConfiguration()) {
+            TimeAccount.classLevelStarting();
+        }
+    }
+}
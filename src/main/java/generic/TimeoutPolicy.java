@@ -0,0 +1,147 @@
+package generic;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Central timeout policy for all explicit waits.
+ *
+ * Implicit waits are always zero (see {@link WebDriverPool#createChromeDriver()}), so every
+ * wait in the framework is an explicit wait whose timeout comes from here. Timeouts are
+ * configured per action type and can be overridden per page class:
+ *
+ *   timeout.element=20                      default for the ELEMENT action, in seconds
+ *   timeout.UsersPagePOM.element=30         override for one page (simple class name)
+ *
+ * Wait instances are cached per driver, and drivers are confined to one thread, so a page
+ * object or test reuses the same WebDriverWait instead of building a new one per call.
+ */
+public class TimeoutPolicy {
+
+    /**
+     * Kinds of waits with their default timeout and polling interval
+     */
+    public enum Action {
+        // Element visibility / clickability
+        ELEMENT("element", 20_000, 500),
+        // Page states (SmartWait conditions)
+        CONDITION("condition", 20_000, 100),
+        // Full page navigation and redirects
+        NAVIGATION("navigation", 30_000, 250),
+        // Login flow and session restore
+        LOGIN("login", 20_000, 250),
+        // Absence checks: how long to give an element to disappear
+        NEGATIVE("negative", 1_000, 100);
+
+        private final String key;
+        private final long defaultMillis;
+        private final long pollingMillis;
+
+        Action(String key, long defaultMillis, long pollingMillis) {
+            this.key = key;
+            this.defaultMillis = defaultMillis;
+            this.pollingMillis = pollingMillis;
+        }
+    }
+
+    private static final Map<WebDriver, Map<String, WebDriverWait>> waits = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private TimeoutPolicy() {
+    }
+
+    /**
+     * Get the timeout for an action, honouring a page-specific override
+     *
+     * @param action Kind of wait
+     * @param page Page or test class the wait belongs to, or null for the global value
+     * @return Timeout duration
+     */
+    public static Duration timeout(Action action, Class<?> page) {
+        String global = Test_DataByPropertyFILE.getData("timeout." + action.key, null);
+        long millis = global == null ? action.defaultMillis : toMillis(global);
+        if (page != null) {
+            String override = Test_DataByPropertyFILE.getData("timeout." + page.getSimpleName() + "." + action.key, null);
+            if (override != null) {
+                millis = toMillis(override);
+            }
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Get the shared wait for an action on a driver
+     *
+     * @param driver WebDriver instance
+     * @param action Kind of wait
+     * @param page Page or test class the wait belongs to, or null for the global value
+     * @return Cached WebDriverWait
+     */
+    public static WebDriverWait waitFor(WebDriver driver, Action action, Class<?> page) {
+        String key = action.key + (page == null ? "" : ":" + page.getName());
+        return waits.computeIfAbsent(driver, d -> new ConcurrentHashMap<>())
+            .computeIfAbsent(key, k -> new AccountedWait(driver, timeout(action, page),
+                Duration.ofMillis(action.pollingMillis)));
+    }
+
+    /**
+     * Get a shared wait with an explicit timeout
+     *
+     * @param driver WebDriver instance
+     * @param timeout Timeout duration
+     * @return Cached WebDriverWait
+     */
+    public static WebDriverWait waitFor(WebDriver driver, Duration timeout) {
+        return waits.computeIfAbsent(driver, d -> new ConcurrentHashMap<>())
+            .computeIfAbsent("custom:" + timeout.toMillis(), k -> new AccountedWait(driver, timeout, Duration.ofMillis(500)));
+    }
+
+    /**
+     * Drop the cached waits of a driver, e.g. before it is quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            waits.remove(driver);
+        }
+    }
+
+    /**
+     * Parse a configured timeout: plain numbers are seconds, an "ms" suffix means milliseconds
+     *
+     * @param value Configured value
+     * @return Timeout in milliseconds
+     */
+    private static long toMillis(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Long.parseLong(trimmed.substring(0, trimmed.length() - 2).trim());
+        }
+        return Math.round(Double.parseDouble(trimmed) * 1000);
+    }
+
+    /**
+     * WebDriverWait that books the time it blocks as waiting in {@link TimeAccount}
+     */
+    static final class AccountedWait extends WebDriverWait {
+
+        AccountedWait(WebDriver driver, Duration timeout, Duration polling) {
+            super(driver, timeout, polling);
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            try (TimeAccount.Activity activity = TimeAccount.begin(TimeAccount.Category.WAITING)) {
+                return super.until(isTrue);
+            }
+        }
+    }
+}
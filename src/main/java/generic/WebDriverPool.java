@@ -0,0 +1,273 @@
+package generic;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Pool of pre-launched Chrome sessions shared by test classes.
+ *
+ * Sessions are started ahead of time on a background thread and lent to test classes
+ * through {@link #borrow()}. A returned session is reset (cookies, storage and extra tabs)
+ * before it is lent again, and is replaced after "driver.pool.max.uses" uses. The pool holds
+ * at most "driver.pool.size" sessions, idle, lent out and launching together, so a session
+ * returned by a class is the one the next class gets.
+ * The pool is enabled with "driver.pool.enabled=true"; otherwise every class starts
+ * its own browser through {@link #createChromeDriver()}.
+ */
+public class WebDriverPool {
+    private static final Logger logger = LoggerUtil.getLogger(WebDriverPool.class);
+
+    private static volatile WebDriverPool instance;
+
+    private final int warmSize;
+    private final int maxUses;
+    private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, Integer> useCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final AtomicInteger borrows = new AtomicInteger();
+    private final AtomicInteger reuses = new AtomicInteger();
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "webdriver-pool-launcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean shutdown;
+
+    /**
+     * Create a pool and start warming its sessions in the background
+     *
+     * @param warmSize Number of sessions held by the pool
+     * @param maxUses Number of times a session is lent before it is replaced
+     */
+    private WebDriverPool(int warmSize, int maxUses) {
+        this.warmSize = Math.max(1, warmSize);
+        this.maxUses = Math.max(1, maxUses);
+        WebDriverManager.chromedriver().setup();
+        for (int i = 0; i < this.warmSize; i++) {
+            launchAsync();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+        logger.info("🔧 WebDriver pool started with {} warm sessions, max {} uses per session",
+            this.warmSize, this.maxUses);
+    }
+
+    /**
+     * Check whether the driver pool is enabled
+     *
+     * @return true if test classes should borrow drivers from the pool
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Test_DataByPropertyFILE.getData("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * Get the shared pool, creating it on first use
+     *
+     * @return WebDriverPool instance
+     */
+    public static WebDriverPool getInstance() {
+        if (instance == null) {
+            synchronized (WebDriverPool.class) {
+                if (instance == null) {
+                    instance = new WebDriverPool(
+                        Integer.parseInt(Test_DataByPropertyFILE.getData("driver.pool.size", "2")),
+                        Integer.parseInt(Test_DataByPropertyFILE.getData("driver.pool.max.uses", "10")));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start and configure a new Chrome session
+     *
+     * @return WebDriver instance
+     */
+    public static WebDriver createChromeDriver() {
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--remote-allow-origins=*");
+        WebDriver driver = new ChromeDriver(options);
+
+        driver.manage().window().maximize();
+        // All waiting is explicit through TimeoutPolicy; an implicit wait would stack on top of it
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        return driver;
+    }
+
+    /**
+     * Borrow a session from the pool. A warm session is returned immediately when one is idle;
+     * otherwise the caller waits for a launch in progress or starts a session itself.
+     *
+     * @return WebDriver instance owned by the caller until {@link #release(WebDriver)}
+     */
+    public WebDriver borrow() {
+        WebDriver driver = idleDrivers.poll();
+        if (driver == null && pendingLaunches.get() > 0) {
+            try {
+                driver = idleDrivers.poll(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (driver == null) {
+            logger.debug("No warm session available, starting one on {}", Thread.currentThread().getName());
+            driver = createChromeDriver();
+        }
+        borrowed.incrementAndGet();
+        borrows.incrementAndGet();
+        if (useCounts.merge(driver, 1, Integer::sum) > 1) {
+            reuses.incrementAndGet();
+        }
+
+        // Sessions lent out count against the pool size; they come back through release()
+        if (held() < warmSize) {
+            launchAsync();
+        }
+        return driver;
+    }
+
+    /**
+     * Return a borrowed session. It is reset and kept for reuse, or quit when it has
+     * reached its use limit, cannot be reset, or the pool already holds its size without it.
+     *
+     * @param driver WebDriver previously obtained from {@link #borrow()}
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        borrowed.decrementAndGet();
+        int uses = useCounts.getOrDefault(driver, 0);
+        if (shutdown || uses >= maxUses || held() >= warmSize || !reset(driver)) {
+            logger.debug("Retiring pooled session after {} uses", uses);
+            quit(driver);
+            if (!shutdown && held() < warmSize) {
+                launchAsync();
+            }
+            return;
+        }
+        idleDrivers.offer(driver);
+    }
+
+    /**
+     * Quit every idle session and stop the background launcher
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        launcher.shutdownNow();
+        List<WebDriver> drivers = new ArrayList<>();
+        idleDrivers.drainTo(drivers);
+        for (WebDriver driver : drivers) {
+            quit(driver);
+        }
+        int total = borrows.get();
+        if (total > 1 && reuses.get() == 0) {
+            logger.warn("⚠️ WebDriver pool lent {} sessions but reused none; check driver.pool.size", total);
+        }
+        logger.info("✅ WebDriver pool shut down, {} of {} borrows served by a reused session", reuses.get(), total);
+    }
+
+    /**
+     * Sessions the pool is responsible for: idle, lent out and being launched
+     *
+     * @return Number of sessions
+     */
+    private int held() {
+        return idleDrivers.size() + borrowed.get() + pendingLaunches.get();
+    }
+
+    /**
+     * Launch a session on the background thread and add it to the idle queue
+     */
+    private void launchAsync() {
+        pendingLaunches.incrementAndGet();
+        try {
+            launcher.submit(() -> {
+                try {
+                    WebDriver driver = createChromeDriver();
+                    if (shutdown) {
+                        quit(driver);
+                    } else {
+                        idleDrivers.offer(driver);
+                        logger.debug("Warm session ready ({} idle)", idleDrivers.size());
+                    }
+                } catch (Exception e) {
+                    logger.error("❌ Failed to pre-launch browser: {}", e.getMessage(), e);
+                } finally {
+                    pendingLaunches.decrementAndGet();
+                }
+            });
+        } catch (Exception e) {
+            // Launcher already stopped
+            pendingLaunches.decrementAndGet();
+        }
+    }
+
+    /**
+     * Clear cookies, web storage and extra tabs so the next borrower starts clean
+     *
+     * @param driver WebDriver to reset
+     * @return true if the session was reset and can be reused
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            String mainHandle = handles.get(0);
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(mainHandle);
+
+            // Storage is per origin, so clear it before leaving the application page
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof ChromeDriver) {
+                ((ChromeDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to reset pooled session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quit a session, ignoring failures from already dead browsers
+     *
+     * @param driver WebDriver to quit
+     */
+    private void quit(WebDriver driver) {
+        useCounts.remove(driver);
+        NetworkTracker.detach(driver);
+        TimeoutPolicy.release(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Ignoring failure while quitting browser: {}", e.getMessage());
+        }
+    }
+}
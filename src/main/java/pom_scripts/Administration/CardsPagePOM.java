@@ -6,8 +6,8 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import generic.BasePage;
+import generic.SmartWait;
 import java.util.List;
 
 /**
@@ -55,7 +55,7 @@ public class CardsPagePOM extends BasePage {
      */
     public CardsPagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -107,12 +107,12 @@ public class CardsPagePOM extends BasePage {
      */
     public void clickSelectHappayUser(String userName) throws InterruptedException {
         waitForElementVisibility(clickOnSelectUserDropdown);
-        Thread.sleep(1000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
         
         // For non-standard dropdowns that don't work with the Select class,
         // we can still use the click and sendKeys approach
         clickOnSelectUserDropdown.click();
-        Thread.sleep(1000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
         clickOnSelectUserDropdown.sendKeys(userName, Keys.ENTER);
         
         // Note: If this was a standard HTML select element, we could use:
@@ -3,12 +3,11 @@ package pom_scripts.Employee;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import generic.BasePage;
+import generic.SmartWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.By;
-import java.util.List;
 
 /**
  * Page Object Model class for Cards
@@ -16,18 +15,15 @@ import java.util.List;
 public class CardsPagePOM extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(CardsPagePOM.class);
 
-    // Try multiple locators for Cards & Wallets link
-    @FindBy(xpath = "//div[contains(text(),'Cards & Wallets')]")
-    private WebElement cardsAndWalletsLink;
-
-    @FindBy(xpath = "//span[contains(text(),'Cards & Wallets')]")
-    private WebElement cardsAndWalletsSpan;
-
-    @FindBy(xpath = "//a[contains(text(),'Cards & Wallets')]")
-    private WebElement cardsAndWalletsAnchor;
-
-    @FindBy(xpath = "//div[contains(@class,'menu-item')]//div[contains(text(),'Cards & Wallets')]")
-    private WebElement cardsAndWalletsMenuItem;
+    // Candidate locators for the Cards & Wallets link, checked together in one polling loop;
+    // the last one matches any element with the link text
+    private static final By[] CARDS_AND_WALLETS_LOCATORS = {
+        By.xpath("//div[contains(text(),'Cards & Wallets')]"),
+        By.xpath("//span[contains(text(),'Cards & Wallets')]"),
+        By.xpath("//a[contains(text(),'Cards & Wallets')]"),
+        By.xpath("//div[contains(@class,'menu-item')]//div[contains(text(),'Cards & Wallets')]"),
+        By.xpath("//*[contains(text(), 'Cards & Wallets')]")
+    };
 
     @FindBy(xpath = "//input[@type='checkbox']") // TC013_CardAction_Enable_Disable
     private WebElement toggleButton;
@@ -54,7 +50,7 @@ public class CardsPagePOM extends BasePage {
      */
     public CardsPagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
 
     /**
@@ -62,63 +58,24 @@ public class CardsPagePOM extends BasePage {
      */
     public void clickCardsAndWallets() throws InterruptedException {
         logger.info("Attempting to click Cards & Wallets link...");
-        Thread.sleep(3000); // Wait for page load
+        waitUntil(SmartWait.PAGE_LOADED, SmartWait.SPINNER_GONE); // Wait for page load
 
         try {
-            // Try to find the element using multiple strategies
-            WebElement elementToClick = null;
-            
             // Log the page source for debugging
             logger.debug("Current page source: {}", driver.getPageSource());
             
-            // Try different locators
-            if (isElementPresent(cardsAndWalletsLink)) {
-                elementToClick = cardsAndWalletsLink;
-                logger.info("Found Cards & Wallets link using div locator");
-            } else if (isElementPresent(cardsAndWalletsSpan)) {
-                elementToClick = cardsAndWalletsSpan;
-                logger.info("Found Cards & Wallets link using span locator");
-            } else if (isElementPresent(cardsAndWalletsAnchor)) {
-                elementToClick = cardsAndWalletsAnchor;
-                logger.info("Found Cards & Wallets link using anchor locator");
-            } else if (isElementPresent(cardsAndWalletsMenuItem)) {
-                elementToClick = cardsAndWalletsMenuItem;
-                logger.info("Found Cards & Wallets link using menu item locator");
-            }
-
-            if (elementToClick != null) {
-                waitForElementToBeClickable(elementToClick);
-                elementToClick.click();
-                logger.info("Successfully clicked Cards & Wallets link");
-            } else {
-                // Try finding by text content
-                List<WebElement> elements = driver.findElements(By.xpath("//*[contains(text(), 'Cards & Wallets')]"));
-                if (!elements.isEmpty()) {
-                    logger.info("Found {} elements containing 'Cards & Wallets' text", elements.size());
-                    for (WebElement element : elements) {
-                        logger.info("Element tag: {}, text: {}", element.getTagName(), element.getText());
-                    }
-                    waitForElementToBeClickable(elements.get(0));
-                    elements.get(0).click();
-                    logger.info("Clicked first found element containing 'Cards & Wallets' text");
-                } else {
-                    throw new RuntimeException("Could not find Cards & Wallets link using any strategy");
-                }
-            }
+            // Wait for any of the locators instead of probing each one once
+            WebElement elementToClick = waitForFirstVisible(CARDS_AND_WALLETS_LOCATORS);
+            logger.info("Found Cards & Wallets link: tag {}, text {}", elementToClick.getTagName(), elementToClick.getText());
+            waitForElementToBeClickable(elementToClick);
+            elementToClick.click();
+            logger.info("Successfully clicked Cards & Wallets link");
         } catch (Exception e) {
             logger.error("Failed to click Cards & Wallets link: {}", e.getMessage());
             throw new RuntimeException("Failed to click Cards & Wallets link: " + e.getMessage());
         }
     }
 
-    private boolean isElementPresent(WebElement element) {
-        try {
-            return element != null && element.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     /**
      * Toggle card status
      */
@@ -3,8 +3,8 @@ package pom_scripts.Employee;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import generic.BasePage;
+import generic.SmartWait;
 import org.openqa.selenium.By;
 
 /**
@@ -63,7 +63,7 @@ public class ExpensePagePOM extends BasePage {
      */
     public ExpensePagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -99,7 +99,7 @@ public class ExpensePagePOM extends BasePage {
          public ExpensePagePOM clickDownloadText() throws InterruptedException {
         waitForElementVisibility(downloadText);
         safeClick(downloadText);
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
         return this;
     }
     
@@ -175,7 +175,7 @@ public class ExpensePagePOM extends BasePage {
         scrollToElement(sideFilter);
         safeClick(cardTransactionFilter);
         safeClick(walletLoadCreditFilter);
-        Thread.sleep(2000);
+        waitUntil(SmartWait.NETWORK_IDLE, SmartWait.DOM_QUIESCENT);
         return this;
     }
     
@@ -287,6 +287,16 @@ public class ExpensePagePOM extends BasePage {
         return this;
     }
     
+    /**
+     * Wait until the toast message is shown
+     * 
+     * @return ExpensePage instance for method chaining
+     */
+    public ExpensePagePOM waitForToastMessage() {
+        waitUntil(SmartWait.TOAST_VISIBLE);
+        return this;
+    }
+    
     /**
      * Check if toast message is displayed
      * 
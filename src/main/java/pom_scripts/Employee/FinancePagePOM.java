@@ -1,10 +1,12 @@
 package pom_scripts.Employee;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import generic.BasePage;
+import generic.PageCached;
+import generic.SmartWait;
 import generic.LoggerUtil;
 import org.slf4j.Logger;
 
@@ -14,6 +16,7 @@ import org.slf4j.Logger;
 public class FinancePagePOM extends BasePage {
     private static final Logger logger = LoggerUtil.getLogger(FinancePagePOM.class);
     
+    @PageCached
     @FindBy(xpath = "//div[normalize-space()='Finances']") // TC007_Passbook_download_pdf
     private WebElement financesLink;
     
@@ -26,8 +29,8 @@ public class FinancePagePOM extends BasePage {
     @FindBy(xpath = "//button[normalize-space()='Export']") // TC007_Passbook_download_pdf
     private WebElement exportButton;
     
-    @FindBy(xpath = "//div[contains(@class,'customToastContent')]") // TC007_Passbook_download_pdf
-    private WebElement toastMessage;
+    // Read through a page snapshot, see getToastMessageText
+    private static final By TOAST_MESSAGE = By.xpath("//div[contains(@class,'customToastContent')]"); // TC007_Passbook_download_pdf
     
     @FindBy(xpath = "//img[@src='/assets/images/close-icon.svg']") // TC007_Passbook_download_pdf
     private WebElement closeToastMessage;
@@ -69,7 +72,7 @@ public class FinancePagePOM extends BasePage {
      */
     public FinancePagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -99,8 +102,8 @@ public class FinancePagePOM extends BasePage {
             }
             
             // Wait for navigation
-            logger.debug("Waiting for 3 seconds after clicking Finances link");
-            Thread.sleep(3000);
+            logger.debug("Waiting for Finances page to settle");
+            waitUntil(SmartWait.SPINNER_GONE, SmartWait.DOM_QUIESCENT);
             
             // Wait for page load after click
             waitForPageLoad();
@@ -138,8 +141,8 @@ public class FinancePagePOM extends BasePage {
             }
             
             // Wait for navigation
-            logger.debug("Waiting for 2 seconds after clicking Passbook link");
-            Thread.sleep(2000);
+            logger.debug("Waiting for Passbook page to settle");
+            waitUntil(SmartWait.SPINNER_GONE, SmartWait.DOM_QUIESCENT);
             
             // Wait for page load after click
             waitForPageLoad();
@@ -179,8 +182,7 @@ public class FinancePagePOM extends BasePage {
      */
     public String getToastMessageText() {
         logger.info("Getting toast message text");
-        waitForElementVisibility(toastMessage);
-        String text = toastMessage.getText();
+        String text = waitForVisibleText(TOAST_MESSAGE);
         logger.debug("Toast message text: {}", text);
         return text;
     }
@@ -226,8 +228,8 @@ public class FinancePagePOM extends BasePage {
         waitForPageLoad();
         waitForElementToBeClickable(downloadBCCOption);
         downloadBCCOption.click();
-        logger.debug("Waiting for 2 seconds after clicking Download BCC option");
-        Thread.sleep(2000);
+        logger.debug("Waiting for Download BCC dialog to settle");
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -239,8 +241,8 @@ public class FinancePagePOM extends BasePage {
         waitForPageLoad();
         waitForElementToBeClickable(walletsDropdown);
         walletsDropdown.click();
-        logger.debug("Waiting for 1 second after clicking Wallets dropdown");
-        Thread.sleep(1000);
+        logger.debug("Waiting for Wallets dropdown to open");
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -252,8 +254,8 @@ public class FinancePagePOM extends BasePage {
         waitForPageLoad();
         waitForElementToBeClickable(selectAllOption);
         selectAllOption.click();
-        logger.debug("Waiting for 1 second after clicking Select All option");
-        Thread.sleep(1000);
+        logger.debug("Waiting for wallet selection to settle");
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -262,8 +264,8 @@ public class FinancePagePOM extends BasePage {
           */
          public void clickDownloadButton() throws InterruptedException {
         logger.info("Clicking on Download button");
-        logger.debug("Waiting for 2 seconds before clicking Download button");
-        Thread.sleep(2000);
+        logger.debug("Waiting for dialog to settle before clicking Download button");
+        waitUntil(SmartWait.DOM_QUIESCENT);
         waitForElementToBeClickable(downloadButton);
         downloadButton.click();
         logger.debug("Clicked on Download button");
@@ -4,9 +4,9 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import generic.BasePage;
+import generic.SmartWait;
 
 public class ExpensePagePOM extends BasePage{
 
@@ -51,7 +51,7 @@ public class ExpensePagePOM extends BasePage{
      */
     public ExpensePagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -77,7 +77,7 @@ public class ExpensePagePOM extends BasePage{
          public void clickDownloadExpenseReportText() throws InterruptedException {
         waitForElementToBeClickable(downloadExpenseReportText);
         downloadExpenseReportText.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -3,11 +3,12 @@ package pom_scripts.Privileged;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.By;
 
 import generic.BasePage;
+import generic.PageCached;
+import generic.SmartWait;
 
 /**
  * Page Object class for Privileged Finance page
@@ -17,6 +18,7 @@ public class FinancePagePOM extends BasePage {
     @FindBy(xpath = "//span[@class='white-color']") // TC046_Passbook_download_pdf
     private WebElement privilegedLink;
     
+    @PageCached
     @FindBy(xpath = "//div[normalize-space()='Finances']") // TC046_Passbook_download_pdf
     private WebElement financesLink;
     
@@ -29,8 +31,8 @@ public class FinancePagePOM extends BasePage {
     @FindBy(xpath = "//button[normalize-space()='Export']") // TC046_Passbook_download_pdf
     private WebElement exportButton;
     
-    @FindBy(xpath = "//div[contains(@class,'customToastContent')]") // TC046_Passbook_download_pdf
-    private WebElement toastMessage;
+    // Read through a page snapshot, see getToastMessageText
+    private static final By TOAST_MESSAGE = By.xpath("//div[contains(@class,'customToastContent')]"); // TC046_Passbook_download_pdf
     
     @FindBy(xpath = "//img[@src='/assets/images/close-icon.svg']") // TC046_Passbook_download_pdf
     private WebElement closeToastMessage;
@@ -72,7 +74,7 @@ public class FinancePagePOM extends BasePage {
      */
     public FinancePagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -99,7 +101,7 @@ public class FinancePagePOM extends BasePage {
         public void clickPassbookLink() throws InterruptedException {
         waitForElementToBeClickable(passbookLink);
         passbookLink.click();
-        Thread.sleep(3000);
+        waitUntil(SmartWait.SPINNER_GONE, SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -121,7 +123,7 @@ public class FinancePagePOM extends BasePage {
         waitForPageLoad();
         waitForElementToBeClickable(exportButton);
         exportButton.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -130,8 +132,7 @@ public class FinancePagePOM extends BasePage {
      * @return Toast message text
      */
     public String getToastMessageText() {
-        waitForElementVisibility(toastMessage);
-        return toastMessage.getText();
+        return waitForVisibleText(TOAST_MESSAGE);
     }
     
     /**
@@ -173,7 +174,7 @@ public class FinancePagePOM extends BasePage {
          public void clickWalletsDropdown() throws InterruptedException {
         waitForElementToBeClickable(walletsDropdown);
         walletsDropdown.click();
-        Thread.sleep(1000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -183,7 +184,7 @@ public class FinancePagePOM extends BasePage {
          public void clickSelectAllOption() throws InterruptedException {
         waitForElementToBeClickable(selectAllOption);
         selectAllOption.click();
-        Thread.sleep(1000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -219,7 +220,7 @@ public class FinancePagePOM extends BasePage {
          public void clickDay19() throws InterruptedException {
         waitForElementToBeClickable(day19);
         day19.click();
-        Thread.sleep(1000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -229,7 +230,7 @@ public class FinancePagePOM extends BasePage {
          public void clickModifyButton() throws InterruptedException {
         waitForElementToBeClickable(modifyButton);
         modifyButton.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.NETWORK_IDLE, SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -4,20 +4,24 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import generic.BasePage;
+import generic.PageCached;
+import generic.SmartWait;
 
 /**
  * Page Object class for Privileged Users page
  */
 public class UsersPagePOM extends BasePage {
     
+    @PageCached
     @FindBy(xpath = "//span[@class='white-color']") // TC026_Export_wallet_limi_History_email
     private WebElement privilegedLink;
     
+    @PageCached
     @FindBy(xpath = "//div[normalize-space()='Users']") // TC026_Export_wallet_limi_History_email
     private WebElement usersLink;
     
+    @PageCached
     @FindBy(xpath = "//button[@id='card-btn-popup']") // TC026_Export_wallet_limi_History_email
     private WebElement moreButton;
     
@@ -121,7 +125,7 @@ public class UsersPagePOM extends BasePage {
      */
     public UsersPagePOM(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements();
     }
     
     /**
@@ -139,7 +143,7 @@ public class UsersPagePOM extends BasePage {
          public void clickUsersLink() throws InterruptedException {
         waitForElementToBeClickable(usersLink);
         usersLink.click();
-        Thread.sleep(3000);
+        waitUntil(SmartWait.SPINNER_GONE, SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -174,7 +178,7 @@ public class UsersPagePOM extends BasePage {
          public void clickLoadWalletUsingExcelOption() throws InterruptedException {
         waitForElementToBeClickable(loadWalletUsingExcelOption);
         loadWalletUsingExcelOption.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -238,7 +242,7 @@ public class UsersPagePOM extends BasePage {
          public void clickSelfWalletLoadOption() throws InterruptedException {
         waitForElementToBeClickable(selfWalletLoadOption);
         selfWalletLoadOption.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
     /**
@@ -310,7 +314,7 @@ public class UsersPagePOM extends BasePage {
          public void clickSetLimitOption() throws InterruptedException {
         waitForElementToBeClickable(setLimitOption);
         setLimitOption.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.DOM_QUIESCENT);
     }
     
         /**
@@ -320,7 +324,7 @@ public class UsersPagePOM extends BasePage {
           public void clickeditLimitButton() throws InterruptedException {
             waitForElementToBeClickable(editLimitButton);
             editLimitButton.click();
-            Thread.sleep(2000);
+            waitUntil(SmartWait.DOM_QUIESCENT);
         }
 
     /**
@@ -356,7 +360,7 @@ public class UsersPagePOM extends BasePage {
          public void clickApplyFiltersButton() throws InterruptedException {
         waitForElementToBeClickable(applyFiltersButton);
         applyFiltersButton.click();
-        Thread.sleep(2000);
+        waitUntil(SmartWait.NETWORK_IDLE, SmartWait.DOM_QUIESCENT);
     }
     
     /**
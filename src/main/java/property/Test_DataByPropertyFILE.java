@@ -1,34 +1,17 @@
 package property;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Properties;
+import generic.Config;
 
 /**
- * Utility class for reading test data from properties file
+ * Utility class for reading test data from properties file,
+ * backed by the cached {@link Config} service
  */
 public class Test_DataByPropertyFILE {
     
-    private static Properties properties;
-    private static final String PROPERTY_FILE_PATH = "property/test_data.properties";
-    
-    static {
-        properties = new Properties();
-        try {
-            FileInputStream fis = new FileInputStream(PROPERTY_FILE_PATH);
-            properties.load(fis);
-            fis.close();
-        } catch (IOException e) {
-            System.err.println("Error loading properties file: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
     /**
-     * Constructor to initialize the properties file
+     * Constructor; the settings are loaded and cached by {@link Config}
      */
     public Test_DataByPropertyFILE() {
-        // Properties already loaded in static block
     }
     
     /**
@@ -38,7 +21,7 @@ public class Test_DataByPropertyFILE {
      * @return Value for the key
      */
     public String getTestData(String key) {
-        return properties.getProperty(key);
+        return Config.get(key);
     }
     
     /**
@@ -49,7 +32,7 @@ public class Test_DataByPropertyFILE {
      * @return Value for the key or default value if key is not found
      */
     public String getTestData(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return Config.get(key, defaultValue);
     }
     
     /**
@@ -59,6 +42,6 @@ public class Test_DataByPropertyFILE {
      * @return Value for the key
      */
     public static String getData(String key) {
-        return properties.getProperty(key);
+        return Config.get(key);
     }
 }
@@ -11,9 +11,19 @@ import java.nio.file.Paths;
 
 /**
  * Program to generate test cases from Excel data
+ * Generation is incremental: a Folder/Class group is only regenerated when its rows changed
+ * since the last run (see {@link GenerationManifest}); pass --force to regenerate everything
+ * and overwrite hand-edited files
+ * The manifest (test_generator.manifest) is local state and is ignored by git. On a checkout
+ * without it every group is generated again, and an existing file that differs from the
+ * generated code is treated as hand-edited and left in place
  */
 public class GenerateTests {
     
+    // Bump when the generated code changes so that every group is generated again
+    private static final String GENERATOR_VERSION = "1";
+    private static final String MANIFEST_FILE = "test_generator.manifest";
+    
     public static void main(String[] args) {
         try {
             // Create a log file
@@ -35,8 +45,16 @@ public class GenerateTests {
             // Group test cases by folder and class
             Map<String, Map<String, List<Map<String, String>>>> groupedTests = groupTestCases(testData);
             
-            // Generate test cases
-            generateTestCases(groupedTests);
+            // Generate the test cases of the groups whose rows changed
+            boolean force = java.util.Arrays.asList(args).contains("--force");
+            GenerationManifest manifest = new GenerationManifest(new File(MANIFEST_FILE));
+            int[] counts = generateTestCases(groupedTests, manifest, force, logWriter);
+            for (String removed : manifest.removeUnseen()) {
+                logWriter.write("Group no longer in Excel file, files left in place: " + removed + "\n");
+            }
+            manifest.save();
+            logWriter.write("Regenerated " + counts[0] + " of " + (counts[0] + counts[1]) + " classes, "
+                + counts[1] + " unchanged.\n");
             
             logWriter.write("Test case generation completed.\n");
             logWriter.close();
@@ -89,11 +107,18 @@ public class GenerateTests {
     }
     
     /**
-     * Generate test cases
+     * Generate the test cases of the groups whose rows changed since the last run
      * 
      * @param groupedTests Map of folder -> class -> test cases
+     * @param manifest Record of the last generation
+     * @param force Regenerate all groups and overwrite hand-edited files
+     * @param logWriter Generation log
+     * @return Number of regenerated and of unchanged groups
+     * @throws IOException If a file cannot be written
      */
-    private static void generateTestCases(Map<String, Map<String, List<Map<String, String>>>> groupedTests) {
+    private static int[] generateTestCases(Map<String, Map<String, List<Map<String, String>>>> groupedTests,
+            GenerationManifest manifest, boolean force, FileWriter logWriter) throws IOException {
+        int[] counts = new int[2];
         for (Map.Entry<String, Map<String, List<Map<String, String>>>> folderEntry : groupedTests.entrySet()) {
             String folder = folderEntry.getKey();
             Map<String, List<Map<String, String>>> classMap = folderEntry.getValue();
@@ -102,13 +127,30 @@ public class GenerateTests {
                 String className = classEntry.getKey();
                 List<Map<String, String>> tests = classEntry.getValue();
                 
+                String group = folder + "/" + className;
+                String fingerprint = GenerationManifest.fingerprint(GENERATOR_VERSION, tests);
+                File pomFile = new File("src/main/java/pom_scripts/" + folder + "/" + className + "Page.java");
+                File testFile = new File("src/test/java/test_scripts/" + folder + "/" + className + "Test.java");
+                if (!force && !manifest.isChanged(group, fingerprint, pomFile, testFile)) {
+                    counts[1]++;
+                    continue;
+                }
+                
                 // Generate POM class
-                generatePOMClass(folder, className, tests);
+                String pomResult = manifest.write(group, pomFile, generatePOMClass(folder, className, tests), force);
+                System.out.println("POM class " + pomFile.getPath() + ": " + pomResult);
+                logWriter.write("POM class " + pomFile.getPath() + ": " + pomResult + "\n");
                 
                 // Generate test class
-                generateTestClass(folder, className, tests);
+                String testResult = manifest.write(group, testFile, generateTestClass(folder, className, tests), force);
+                System.out.println("Test class " + testFile.getPath() + ": " + testResult);
+                logWriter.write("Test class " + testFile.getPath() + ": " + testResult + "\n");
+                
+                manifest.update(group, fingerprint);
+                counts[0]++;
             }
         }
+        return counts;
     }
     
     /**
@@ -117,21 +159,16 @@ public class GenerateTests {
      * @param folder Folder name
      * @param className Class name
      * @param tests List of test cases
+     * @return Source of the POM class
      */
-    private static void generatePOMClass(String folder, String className, List<Map<String, String>> tests) {
+    private static String generatePOMClass(String folder, String className, List<Map<String, String>> tests) {
         String packageName = "pom_scripts." + folder;
         String pomClassName = className + "Page";
-        String filePath = "src/main/java/pom_scripts/" + folder + "/" + pomClassName + ".java";
-        
-        // Create directory if not exists
-        new File("src/main/java/pom_scripts/" + folder).mkdirs();
-        
         StringBuilder sb = new StringBuilder();
         sb.append("package ").append(packageName).append(";\n\n");
         sb.append("import org.openqa.selenium.WebDriver;\n");
         sb.append("import org.openqa.selenium.WebElement;\n");
         sb.append("import org.openqa.selenium.support.FindBy;\n");
-        sb.append("import org.openqa.selenium.support.PageFactory;\n");
         sb.append("import generic.BasePage;\n\n");
         sb.append("/**\n");
         sb.append(" * Page Object Model class for ").append(className).append("\n");
@@ -174,7 +211,7 @@ public class GenerateTests {
         sb.append("     */\n");
         sb.append("    public ").append(pomClassName).append("(WebDriver driver) {\n");
         sb.append("        super(driver);\n");
-        sb.append("        PageFactory.initElements(driver, this);\n");
+        sb.append("        initElements();\n");
         sb.append("    }\n\n");
         
         // Add methods
@@ -240,14 +277,7 @@ public class GenerateTests {
         
         sb.append("}\n");
         
-        // Write to file
-        try (FileWriter writer = new FileWriter(filePath)) {
-            writer.write(sb.toString());
-            System.out.println("Generated POM class: " + filePath);
-        } catch (IOException e) {
-            System.err.println("Error writing POM class: " + e.getMessage());
-            e.printStackTrace();
-        }
+        return sb.toString();
     }
     
     /**
@@ -256,16 +286,12 @@ public class GenerateTests {
      * @param folder Folder name
      * @param className Class name
      * @param tests List of test cases
+     * @return Source of the test class
      */
-    private static void generateTestClass(String folder, String className, List<Map<String, String>> tests) {
+    private static String generateTestClass(String folder, String className, List<Map<String, String>> tests) {
         String packageName = "test_scripts." + folder;
         String testClassName = className + "Test";
         String pomClassName = className + "Page";
-        String filePath = "src/test/java/test_scripts/" + folder + "/" + testClassName + ".java";
-        
-        // Create directory if not exists
-        new File("src/test/java/test_scripts/" + folder).mkdirs();
-        
         StringBuilder sb = new StringBuilder();
         sb.append("package ").append(packageName).append(";\n\n");
         sb.append("import org.testng.Assert;\n");
@@ -291,7 +317,7 @@ public class GenerateTests {
         sb.append("    @BeforeMethod\n");
         sb.append("    public void setUp() throws InterruptedException {\n");
         sb.append("        login();\n");
-        sb.append("        page = new ").append(pomClassName).append("(driver);\n");
+        sb.append("        page = new ").append(pomClassName).append("(getDriver());\n");
         sb.append("    }\n\n");
         
         // Add test methods
@@ -358,14 +384,7 @@ public class GenerateTests {
         
         sb.append("}\n");
         
-        // Write to file
-        try (FileWriter writer = new FileWriter(filePath)) {
-            writer.write(sb.toString());
-            System.out.println("Generated test class: " + filePath);
-        } catch (IOException e) {
-            System.err.println("Error writing test class: " + e.getMessage());
-            e.printStackTrace();
-        }
+        return sb.toString();
     }
     
     /**
@@ -0,0 +1,176 @@
+package test_generator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Record of what {@link GenerateTests} generated last time, so that a run only rewrites the
+ * classes whose rows changed.
+ *
+ * For every Folder/Class group the manifest keeps a fingerprint of the group's rows and a
+ * hash of each file as it was written. A group whose fingerprint is unchanged is skipped. A
+ * file whose content no longer matches the recorded hash was edited by hand and is not
+ * overwritten; the new version is written next to it as "&lt;file&gt;.generated" instead.
+ */
+public class GenerationManifest {
+
+    private final File file;
+    private final Properties entries = new Properties();
+    private final Set<String> seen = new TreeSet<>();
+
+    /**
+     * Load the manifest, or start an empty one if the file does not exist
+     *
+     * @param file Manifest file
+     * @throws IOException If the file exists but cannot be read
+     */
+    public GenerationManifest(File file) throws IOException {
+        this.file = file;
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                entries.load(in);
+            }
+        }
+    }
+
+    /**
+     * Fingerprint the rows of a group, in sheet order and column order
+     *
+     * @param version Generator version; changing it regenerates every group
+     * @param rows Rows of the group
+     * @return Hex digest
+     */
+    public static String fingerprint(String version, List<Map<String, String>> rows) {
+        StringBuilder sb = new StringBuilder(version).append('\n');
+        for (Map<String, String> row : rows) {
+            for (Map.Entry<String, String> cell : row.entrySet()) {
+                sb.append(cell.getKey()).append('\u001f').append(cell.getValue()).append('\u001e');
+            }
+            sb.append('\n');
+        }
+        return sha256(sb.toString());
+    }
+
+    /**
+     * Check whether a group has to be generated again
+     *
+     * @param group Folder/Class key
+     * @param fingerprint Fingerprint of the group's rows
+     * @param outputs Files generated for the group
+     * @return true if the rows changed since the last run or an output file is missing
+     */
+    public boolean isChanged(String group, String fingerprint, File... outputs) {
+        seen.add(group);
+        if (!fingerprint.equals(entries.getProperty(group + ".rows"))) {
+            return true;
+        }
+        for (File output : outputs) {
+            if (!output.isFile()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write a generated file unless its content is unchanged or it was edited by hand
+     *
+     * @param group Folder/Class key
+     * @param output File to write
+     * @param content Generated content
+     * @param force Overwrite hand-edited files too
+     * @return What was done, for the log
+     * @throws IOException If the file cannot be written
+     */
+    public String write(String group, File output, String content, boolean force) throws IOException {
+        String key = group + "." + output.getName();
+        String generated = sha256(content);
+        if (output.isFile()) {
+            String current = sha256(new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8));
+            if (current.equals(generated)) {
+                entries.setProperty(key, generated);
+                return "unchanged";
+            }
+            if (!force && !current.equals(entries.getProperty(key))) {
+                File pending = new File(output.getPath() + ".generated");
+                Files.write(pending.toPath(), content.getBytes(StandardCharsets.UTF_8));
+                return "edited by hand, new version written to " + pending.getPath();
+            }
+        }
+        output.getParentFile().mkdirs();
+        Files.write(output.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        entries.setProperty(key, generated);
+        return "written";
+    }
+
+    /**
+     * Record the fingerprint of a group once its files are written
+     *
+     * @param group Folder/Class key
+     * @param fingerprint Fingerprint of the group's rows
+     */
+    public void update(String group, String fingerprint) {
+        entries.setProperty(group + ".rows", fingerprint);
+    }
+
+    /**
+     * Forget the groups that are no longer in the sheet; their files are left in place
+     *
+     * @return Groups removed from the manifest
+     */
+    public Set<String> removeUnseen() {
+        Set<String> removed = new TreeSet<>();
+        for (String key : entries.stringPropertyNames()) {
+            if (key.endsWith(".rows")) {
+                String group = key.substring(0, key.length() - ".rows".length());
+                if (!seen.contains(group)) {
+                    removed.add(group);
+                }
+            }
+        }
+        for (String key : entries.stringPropertyNames()) {
+            for (String group : removed) {
+                if (key.startsWith(group + ".")) {
+                    entries.remove(key);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Save the manifest
+     *
+     * @throws IOException If the file cannot be written
+     */
+    public void save() throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            entries.store(out, "Generated by test_generator.GenerateTests - do not edit");
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -27,7 +27,7 @@ public class CardsTest extends BaseTest {
     public void testExportAssignedCards() {
         try {
             // Create page object
-            CardsPagePOM cardsPage = new CardsPagePOM(driver);
+            CardsPagePOM cardsPage = new CardsPagePOM(getDriver());
             
             // Test steps
             cardsPage.clickPrivilegedLink();
@@ -29,7 +29,7 @@ public class ExpenseTest extends BaseTest {
     public void testExpenseDownload() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
@@ -63,7 +63,7 @@ public class ExpenseTest extends BaseTest {
     public void testExpenseDownloadToEmail() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
@@ -103,13 +103,13 @@ public class ExpenseTest extends BaseTest {
     public void testExportHistorySuccess() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
             expensePage.clickDownloadIcon();
             expensePage.clickViewExportHistory();
-            Thread.sleep(2000);
+            expensePage.waitForToastMessage();
             // Verify toast message appears
             Assert.assertTrue(expensePage.getToastMessageText().length() > 0, "Toast message should appear after download");
             // Close toast message
@@ -135,7 +135,7 @@ public class ExpenseTest extends BaseTest {
     public void testExport30DayEmpExpense() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
@@ -170,7 +170,7 @@ public class ExpenseTest extends BaseTest {
     public void testExportWithTxnTypeFilter() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
@@ -206,7 +206,7 @@ public class ExpenseTest extends BaseTest {
     public void testExportWithWalletTypeFilter() {
         try {
             // Create page object
-            ExpensePagePOM expensePage = new ExpensePagePOM(driver);
+            ExpensePagePOM expensePage = new ExpensePagePOM(getDriver());
             
             // Test steps
             expensePage.clickExpensesLink();
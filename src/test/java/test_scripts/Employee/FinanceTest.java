@@ -38,7 +38,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Passbook PDF download");
@@ -80,7 +80,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Passbook Excel export");
@@ -123,7 +123,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Balance Confirmation Certificate download");
@@ -170,7 +170,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Passbook PDF download with 1 Year filter");
@@ -217,7 +217,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Passbook Excel download with 1 Year filter");
@@ -265,7 +265,7 @@ public class FinanceTest extends BaseTest {
         try {
             // Create page object
             logger.debug("Creating FinancePage object");
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             logger.info("Executing test steps for Balance Confirmation Certificate download with 1 Year filter");
@@ -27,7 +27,7 @@ public class ExpenseTest extends BaseTest{
     public void testEmpExpenseDownloadLocal() {
         try {
             // Create page object
-            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(driver);
+            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(getDriver());
             
             // Test steps
             ExpensePagePOM.clickPrivilegedLink();
@@ -61,7 +61,7 @@ public class ExpenseTest extends BaseTest{
     public void testEmpExpenseDownloadEmail() {
         try {
             // Create page object
-            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(driver);
+            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(getDriver());
             
             // Get test data
             Test_DataByPropertyFILE testData = new Test_DataByPropertyFILE();
@@ -101,7 +101,7 @@ public class ExpenseTest extends BaseTest{
     public void testExportHistorySuccess() {
         try {
             // Create page object
-            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(driver);
+            ExpensePagePOM ExpensePagePOM = new ExpensePagePOM(getDriver());
             
             // Test steps
             ExpensePagePOM.clickPrivilegedLink();
@@ -28,7 +28,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookDownloadPDF() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
@@ -63,7 +63,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookDownloadExcel() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
@@ -100,7 +100,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookBalanceConfirmationCertificate() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
@@ -138,7 +138,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookDownloadPDF1YearFilter() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
@@ -178,7 +178,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookDownloadExcel1YearFilter() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
@@ -219,7 +219,7 @@ public class FinanceTest extends BaseTest {
     public void testPassbookBalanceConfirmationCertificate1YearFilter() {
         try {
             // Create page object
-            FinancePagePOM financePage = new FinancePagePOM(driver);
+            FinancePagePOM financePage = new FinancePagePOM(getDriver());
             
             // Test steps
             financePage.clickPrivilegedLink();
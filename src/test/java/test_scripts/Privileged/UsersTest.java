@@ -3,6 +3,8 @@ package test_scripts.Privileged;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import generic.BaseTest;
+import generic.DataSource;
+import generic.DataSourceProvider;
 import pom_scripts.Privileged.UsersPagePOM;
 import property.Test_DataByPropertyFILE;
 import io.qameta.allure.Description;
@@ -29,7 +31,7 @@ public class UsersTest extends BaseTest {
     public void testExportWalletLimitHistory() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -58,7 +60,7 @@ public class UsersTest extends BaseTest {
     public void testBulkLoadWalletS3Download() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -93,7 +95,7 @@ public class UsersTest extends BaseTest {
     public void testBulkWithdrawWallet() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -128,7 +130,7 @@ public class UsersTest extends BaseTest {
     public void testExportUsersLocal() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -162,7 +164,7 @@ public class UsersTest extends BaseTest {
     public void testExportUsersEmail() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -191,18 +193,20 @@ public class UsersTest extends BaseTest {
     }
     
     /**
-     * Test case for self/single user wallet load
+     * Test case for self/single user wallet load, once per "load" row of the wallet data
      */
-    @Test(priority = 6,description = "Self/ Single user Wallet load", testName = "TC032_Self_User_Wallet_Load")
+    @Test(priority = 6,description = "Self/ Single user Wallet load", testName = "TC032_Self_User_Wallet_Load",
+          dataProvider = DataSourceProvider.ROWS, dataProviderClass = DataSourceProvider.class)
     @Description("Self/ Single user Wallet load")
     @Epic("Privileged")
     @Feature("Users")
     @Story("Self/ Single user Wallet load")
     @Severity(SeverityLevel.NORMAL)
-    public void testSelfUserWalletLoad() {
+    @DataSource(file = "test cases/wallet_data.csv", columns = {"Amount", "Comment"}, tags = "load")
+    public void testSelfUserWalletLoad(int amount, String comment) {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Get test data
             Test_DataByPropertyFILE testData = new Test_DataByPropertyFILE();
@@ -214,9 +218,9 @@ public class UsersTest extends BaseTest {
             usersPage.clickMoreButton();
             usersPage.clickSelfWalletLoadOption();
             //usersPage.clickImprestOption();
-            usersPage.enterAmount("1");
+            usersPage.enterAmount(String.valueOf(amount));
             usersPage.enterPassword(password);
-            usersPage.enterComment("Automated Load");
+            usersPage.enterComment(comment);
             usersPage.clickSubmitButton();
             
             // Verify toast message appears
@@ -234,18 +238,20 @@ public class UsersTest extends BaseTest {
     }
     
     /**
-     * Test case for self/single user wallet unload
+     * Test case for self/single user wallet unload, once per "withdraw" row of the wallet data
      */
-    @Test(priority = 7,description = "Self/Single user Wallet Unload", testName = "TC033_Self_User_Wallet_Withdraw")
+    @Test(priority = 7,description = "Self/Single user Wallet Unload", testName = "TC033_Self_User_Wallet_Withdraw",
+          dataProvider = DataSourceProvider.ROWS, dataProviderClass = DataSourceProvider.class)
     @Description("Self/Single user Wallet Unload")
     @Epic("Privileged")
     @Feature("Users")
     @Story("Self/Single user Wallet Unload")
     @Severity(SeverityLevel.NORMAL)
-    public void testSelfUserWalletWithdraw() {
+    @DataSource(file = "test cases/wallet_data.csv", columns = {"Amount", "Comment"}, tags = "withdraw")
+    public void testSelfUserWalletWithdraw(int amount, String comment) {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Get test data
             Test_DataByPropertyFILE testData = new Test_DataByPropertyFILE();
@@ -256,9 +262,9 @@ public class UsersTest extends BaseTest {
             usersPage.clickUsersLink();
             usersPage.clickMoreButton();
             usersPage.clickSelfWalletWithdrawOption();
-            usersPage.enterAmount("1");
+            usersPage.enterAmount(String.valueOf(amount));
             usersPage.enterPassword(password);
-            usersPage.enterComment("Automated Load");
+            usersPage.enterComment(comment);
             usersPage.clickSubmitButton();
             
             // Verify toast message appears
@@ -287,7 +293,7 @@ public class UsersTest extends BaseTest {
     public void testUpdateLimitDownloadAttachment() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -316,7 +322,7 @@ public class UsersTest extends BaseTest {
     public void testSetUserWalletLimit() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();
@@ -347,7 +353,7 @@ public class UsersTest extends BaseTest {
     public void testExportUserWithUserStatusFilter() {
         try {
             // Create page object
-            UsersPagePOM usersPage = new UsersPagePOM(driver);
+            UsersPagePOM usersPage = new UsersPagePOM(getDriver());
             
             // Test steps
             usersPage.clickPrivilegedLink();